@@ -0,0 +1,31 @@
+package net.gregbeaty.flipview;
+
+import android.graphics.Canvas;
+import android.view.View;
+
+public class CrossFadeRenderer implements FlipRenderer {
+    @Override
+    public int getCostTier() {
+        return COST_TIER_LOW;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void draw(Canvas canvas, Frame frame) {
+        final View fromView = frame.getFromView();
+        final View toView = frame.getToView();
+
+        if (fromView != null) {
+            frame.drawPage(canvas, fromView);
+        }
+
+        if (toView == null) {
+            return;
+        }
+
+        final int alpha = Math.round(frame.getProgress() * 255);
+        canvas.saveLayerAlpha(0, 0, frame.getWidth(), frame.getHeight(), alpha, Canvas.ALL_SAVE_FLAG);
+        frame.drawPage(canvas, toView);
+        canvas.restore();
+    }
+}
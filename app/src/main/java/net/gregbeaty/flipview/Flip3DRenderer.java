@@ -0,0 +1,126 @@
+package net.gregbeaty.flipview;
+
+import android.graphics.Camera;
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.view.View;
+
+public class Flip3DRenderer implements FlipRenderer {
+    private static final int MAX_SHADOW_ALPHA = 180;
+    private static final int MAX_SHADE_ALPHA = 130;
+    private static final int MAX_SHINE_ALPHA = 100;
+
+    private final Rect firstHalfRect = new Rect();
+    private final Rect secondHalfRect = new Rect();
+
+    private final Camera camera = new Camera();
+    private final Matrix matrix = new Matrix();
+
+    private final Paint shadowPaint = new Paint();
+    private final Paint shadePaint = new Paint();
+    private final Paint shinePaint = new Paint();
+
+    @Override
+    public int getCostTier() {
+        return COST_TIER_HIGH;
+    }
+
+    @Override
+    public void draw(Canvas canvas, Frame frame) {
+        final int angle = frame.getAngle();
+        final boolean isVerticalScrolling = frame.isVertical();
+        final int width = frame.getWidth();
+        final int height = frame.getHeight();
+
+        // a page may contain flip views sharing this renderer, so the rects are set again after every page draw
+        HalfRects.set(firstHalfRect, secondHalfRect, width, height, isVerticalScrolling);
+
+        //draw previous half
+        canvas.save();
+        canvas.clipRect(firstHalfRect);
+        final View previousHalf = angle >= 90 ? frame.getPreviousView() : frame.getCurrentView();
+        if (previousHalf != null) {
+            frame.drawPage(canvas, previousHalf);
+        }
+
+        if (angle > 90 && !frame.isLowPower()) {
+            final int alpha = (int) (((angle - 90) / 90f) * MAX_SHADOW_ALPHA);
+            shadowPaint.setAlpha(alpha);
+            canvas.drawPaint(shadowPaint);
+        }
+
+        canvas.restore();
+
+        //draw next half
+        HalfRects.set(firstHalfRect, secondHalfRect, width, height, isVerticalScrolling);
+        canvas.save();
+        canvas.clipRect(secondHalfRect);
+        final View nextHalf = angle >= 90 ? frame.getCurrentView() : frame.getNextView();
+
+        if (nextHalf != null) {
+            frame.drawPage(canvas, nextHalf);
+        }
+
+        if (angle < 90 && !frame.isLowPower()) {
+            final int alpha = (int) ((Math.abs(angle - 90) / 90f) * MAX_SHADOW_ALPHA);
+            shadowPaint.setAlpha(alpha);
+            canvas.drawPaint(shadowPaint);
+        }
+
+        canvas.restore();
+
+        //draw flipping half
+        HalfRects.set(firstHalfRect, secondHalfRect, width, height, isVerticalScrolling);
+        canvas.save();
+        camera.save();
+
+        if (angle > 90) {
+            canvas.clipRect(firstHalfRect);
+            if (isVerticalScrolling) {
+                camera.rotateX(angle - 180);
+            } else {
+                camera.rotateY(180 - angle);
+            }
+        } else {
+            canvas.clipRect(secondHalfRect);
+            if (isVerticalScrolling) {
+                camera.rotateX(angle);
+            } else {
+                camera.rotateY(-angle);
+            }
+        }
+
+        camera.getMatrix(matrix);
+        camera.restore();
+
+        matrix.preScale(0.25f, 0.25f);
+        matrix.postScale(4.0f, 4.0f);
+        matrix.preTranslate(-width / 2, -height / 2);
+        matrix.postTranslate(width / 2, height / 2);
+
+        canvas.concat(matrix);
+
+        frame.drawPage(canvas, frame.getCurrentView());
+
+        if (frame.isLowPower()) {
+            canvas.restore();
+            return;
+        }
+
+        HalfRects.set(firstHalfRect, secondHalfRect, width, height, isVerticalScrolling);
+
+        if (angle < 90) {
+            final int alpha = (int) ((angle / 90f) * MAX_SHINE_ALPHA);
+            shinePaint.setAlpha(alpha);
+            canvas.drawRect(secondHalfRect, shinePaint);
+        } else {
+            final int alpha = (int) ((Math.abs(angle - 180) / 90f) * MAX_SHADE_ALPHA);
+            shadePaint.setAlpha(alpha);
+            canvas.drawRect(firstHalfRect, shadePaint);
+        }
+
+        canvas.restore();
+    }
+}
@@ -0,0 +1,262 @@
+package net.gregbeaty.flipview;
+
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.concurrent.TimeUnit;
+
+import timber.log.Timber;
+
+class FlipAnimator {
+    private static final float TIME_CONSTANT_MILLIS = 80f;
+    private static final float LOW_POWER_TIME_CONSTANT_MILLIS = 50f;
+    private static final float MIN_SPEED_PER_MILLI = 0.3f;
+    private static final int DEFAULT_MAX_QUEUED_FLIPS = 3;
+
+    private final RecyclerView recyclerView;
+    private final FlipLayoutManager layoutManager;
+    private final Listener listener;
+    private boolean attached;
+    private boolean running;
+    private long targetDistance;
+    private long lastFrameTimeNanos;
+    private long autoFlipIntervalNanos;
+    private long nextAutoFlipTimeNanos;
+    private int maxQueuedFlips = DEFAULT_MAX_QUEUED_FLIPS;
+    private int queueOrigin = RecyclerView.NO_POSITION;
+    private float timeConstantMillis = TIME_CONSTANT_MILLIS;
+    private long minFrameIntervalNanos;
+
+    private final Runnable prebindRunnable = new Runnable() {
+        @Override
+        public void run() {
+            if (autoFlipIntervalNanos > 0 && !layoutManager.isScrolling()) {
+                layoutManager.requestPrebind(getAutoFlipPosition());
+            }
+        }
+    };
+
+    FlipAnimator(RecyclerView recyclerView, FlipLayoutManager layoutManager, Listener listener) {
+        this.recyclerView = recyclerView;
+        this.layoutManager = layoutManager;
+        this.listener = listener;
+    }
+
+    void attach() {
+        attached = true;
+        scheduleAutoFlip();
+        FlipTicker.getInstance().register(this);
+    }
+
+    void detach() {
+        attached = false;
+        recyclerView.removeCallbacks(prebindRunnable);
+        FlipTicker.getInstance().unregister(this);
+        stop();
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    int getTargetPosition() {
+        return running ? FlipDistance.toPosition(targetDistance) : RecyclerView.NO_POSITION;
+    }
+
+    void animateToPosition(int position) {
+        // flips queued on top of this target are counted from it, not from the current page
+        queueOrigin = position;
+        animateTo(position);
+    }
+
+    private void animateTo(int position) {
+        targetDistance = FlipDistance.forPosition(position);
+
+        if (!running) {
+            running = true;
+            lastFrameTimeNanos = 0;
+            listener.onAnimationStart(this);
+        }
+
+        if (attached) {
+            FlipTicker.getInstance().schedule();
+        }
+    }
+
+    // moves the target of a running animation instead of restarting it, so quick turns blend into one motion
+    boolean flipBy(int pages) {
+        int itemCount = layoutManager.getItemCount();
+        if (itemCount == 0 || recyclerView.getScrollState() == RecyclerView.SCROLL_STATE_DRAGGING) {
+            return false;
+        }
+
+        int currentPosition = layoutManager.getCurrentPosition();
+        int basePosition = running ? getTargetPosition() : currentPosition;
+        int originPosition = running && queueOrigin != RecyclerView.NO_POSITION ? queueOrigin : currentPosition;
+        int position = Math.max(0, Math.min(itemCount - 1, basePosition + pages));
+        position = Math.max(originPosition - maxQueuedFlips, Math.min(originPosition + maxQueuedFlips, position));
+        if (position == basePosition) {
+            return false;
+        }
+
+        animateTo(position);
+
+        if (recyclerView.getScrollState() == RecyclerView.SCROLL_STATE_SETTLING) {
+            recyclerView.stopScroll();
+        }
+
+        return true;
+    }
+
+    void setMaxQueuedFlips(int maxQueuedFlips) {
+        if (maxQueuedFlips < 1) {
+            throw new IllegalArgumentException("max queued flips can't be less then 1. max queued flips is: " + maxQueuedFlips);
+        }
+
+        this.maxQueuedFlips = maxQueuedFlips;
+    }
+
+    int getMaxQueuedFlips() {
+        return maxQueuedFlips;
+    }
+
+    void stop() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        queueOrigin = RecyclerView.NO_POSITION;
+        layoutManager.onAnimationEnd();
+        scheduleAutoFlip();
+        listener.onAnimationEnd(this);
+    }
+
+    void setAutoFlipInterval(long intervalMillis) {
+        autoFlipIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, intervalMillis));
+        scheduleAutoFlip();
+
+        if (attached) {
+            FlipTicker.getInstance().schedule();
+        }
+    }
+
+    long getAutoFlipInterval() {
+        return TimeUnit.NANOSECONDS.toMillis(autoFlipIntervalNanos);
+    }
+
+    void setLowPower(boolean lowPower, long minFrameIntervalNanos) {
+        timeConstantMillis = lowPower ? LOW_POWER_TIME_CONSTANT_MILLIS : TIME_CONSTANT_MILLIS;
+        this.minFrameIntervalNanos = minFrameIntervalNanos;
+    }
+
+    long getNextFrameTimeNanos() {
+        if (running) {
+            return lastFrameTimeNanos == 0 || minFrameIntervalNanos == 0 ? 0 : lastFrameTimeNanos + minFrameIntervalNanos;
+        }
+
+        if (autoFlipIntervalNanos > 0) {
+            return nextAutoFlipTimeNanos;
+        }
+
+        return Long.MAX_VALUE;
+    }
+
+    void doFrame(long frameTimeNanos) {
+        if (!running) {
+            if (autoFlipIntervalNanos > 0 && frameTimeNanos >= nextAutoFlipTimeNanos) {
+                autoFlip();
+            }
+
+            return;
+        }
+
+        long elapsedNanos = lastFrameTimeNanos == 0 ? 0 : frameTimeNanos - lastFrameTimeNanos;
+        if (lastFrameTimeNanos != 0 && elapsedNanos < minFrameIntervalNanos) {
+            return;
+        }
+
+        lastFrameTimeNanos = frameTimeNanos;
+        if (elapsedNanos <= 0) {
+            return;
+        }
+
+        float elapsedMillis = elapsedNanos / 1_000_000f;
+        long remaining = targetDistance - layoutManager.getScrollDistance();
+
+        long step = (long) (remaining * (1 - Math.exp(-elapsedMillis / timeConstantMillis)));
+        long minStep = Math.max(1, (long) (elapsedMillis * MIN_SPEED_PER_MILLI));
+        if (Math.abs(step) < minStep) {
+            step = remaining > 0 ? minStep : -minStep;
+        }
+
+        if (Math.abs(step) >= Math.abs(remaining)) {
+            step = remaining;
+        }
+
+        if (step != 0) {
+            long distanceBefore = layoutManager.getScrollDistance();
+            scrollBy(FlipDistance.clampToInt(step));
+
+            if (layoutManager.getScrollDistance() == distanceBefore) {
+                Timber.d("doFrame: animation blocked at %d", distanceBefore);
+                finish();
+                return;
+            }
+        }
+
+        if (layoutManager.getScrollDistance() == targetDistance) {
+            finish();
+        }
+    }
+
+    private void finish() {
+        stop();
+        recyclerView.requestLayout();
+    }
+
+    private void scrollBy(int delta) {
+        if (layoutManager.getOrientation() == FlipLayoutManager.HORIZONTAL) {
+            recyclerView.scrollBy(delta, 0);
+        } else {
+            recyclerView.scrollBy(0, delta);
+        }
+    }
+
+    private void autoFlip() {
+        scheduleAutoFlip();
+
+        int itemCount = layoutManager.getItemCount();
+        if (itemCount < 2 || layoutManager.isScrolling()) {
+            return;
+        }
+
+        int position = getAutoFlipPosition();
+        if (position == 0) {
+            layoutManager.scrollToPosition(0);
+            return;
+        }
+
+        animateToPosition(position);
+    }
+
+    private int getAutoFlipPosition() {
+        int position = layoutManager.getCurrentPosition() + 1;
+        return position < layoutManager.getItemCount() ? position : 0;
+    }
+
+    private void scheduleAutoFlip() {
+        nextAutoFlipTimeNanos = autoFlipIntervalNanos > 0 ? System.nanoTime() + autoFlipIntervalNanos : Long.MAX_VALUE;
+
+        // bind the next page a frame after the turn settles, well ahead of the scheduled one
+        recyclerView.removeCallbacks(prebindRunnable);
+        if (autoFlipIntervalNanos > 0 && attached) {
+            recyclerView.post(prebindRunnable);
+        }
+    }
+
+    interface Listener {
+        void onAnimationStart(FlipAnimator animator);
+
+        void onAnimationEnd(FlipAnimator animator);
+    }
+}
@@ -0,0 +1,59 @@
+package net.gregbeaty.flipview;
+
+final class FlipDistance {
+    static final int PER_POSITION = 180;
+
+    private FlipDistance() {
+    }
+
+    static long forPosition(int position) {
+        return (long) position * PER_POSITION;
+    }
+
+    static int toPosition(long distance) {
+        // equivalent to Math.round(distance / PER_POSITION) without the float precision loss
+        return (int) floorDiv(distance + PER_POSITION / 2, PER_POSITION);
+    }
+
+    static int toAngle(long distance) {
+        return (int) floorMod(distance, PER_POSITION);
+    }
+
+    static int toFloorPosition(long distance) {
+        return (int) floorDiv(distance, PER_POSITION);
+    }
+
+    static float toFraction(long distance) {
+        return toAngle(distance) / (float) PER_POSITION;
+    }
+
+    static long maxDistance(int itemCount) {
+        return itemCount <= 0 ? 0 : forPosition(itemCount - 1);
+    }
+
+    static int clampToInt(long value) {
+        if (value > Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+
+        if (value < Integer.MIN_VALUE) {
+            return Integer.MIN_VALUE;
+        }
+
+        return (int) value;
+    }
+
+    // Math.floorDiv/floorMod are only available from API 24
+    private static long floorDiv(long x, long y) {
+        long q = x / y;
+        if ((x % y != 0) && ((x < 0) != (y < 0))) {
+            q--;
+        }
+
+        return q;
+    }
+
+    private static long floorMod(long x, long y) {
+        return x - floorDiv(x, y) * y;
+    }
+}
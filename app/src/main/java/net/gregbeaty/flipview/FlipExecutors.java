@@ -0,0 +1,39 @@
+package net.gregbeaty.flipview;
+
+import android.os.Process;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class FlipExecutors {
+    private static final int BACKGROUND_THREADS = 2;
+    private static ExecutorService background;
+
+    private FlipExecutors() {
+    }
+
+    static synchronized ExecutorService background() {
+        if (background == null) {
+            background = Executors.newFixedThreadPool(BACKGROUND_THREADS, new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(final Runnable runnable) {
+                    Thread thread = new Thread(new Runnable() {
+                        @Override
+                        public void run() {
+                            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                            runnable.run();
+                        }
+                    }, "FlipView #" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+
+        return background;
+    }
+}
@@ -15,7 +15,12 @@ import timber.log.Timber;
 public class FlipLayoutManager extends RecyclerView.LayoutManager {
     static final int HORIZONTAL = OrientationHelper.HORIZONTAL;
     static final int VERTICAL = OrientationHelper.VERTICAL;
-    static final int DISTANCE_PER_POSITION = 180;
+    static final int DISTANCE_PER_POSITION = FlipDistance.PER_POSITION;
+    static final int BIND_MODE_FULL = 0;
+    static final int BIND_MODE_PLACEHOLDER = 1;
+    static final Object PAYLOAD_FULL_BIND = new Object();
+    private static final int FAST_SCROLL_DELTA = DISTANCE_PER_POSITION / 6;
+    private static final int ANCHOR_SEARCH_WINDOW = 500;
     private final float INTERACTIVE_SCROLL_SPEED = 0.5f;
     private final int orientation;
     private final RecyclerView recyclerView;
@@ -24,10 +29,23 @@ public class FlipLayoutManager extends RecyclerView.LayoutManager {
     private boolean positionChangedForLayout;
     private int positionBeforeScroll = RecyclerView.NO_POSITION;
     private int scrollVector;
-    private int scrollDistance;
+    private int lastScrollDelta;
+    private int bindMode = BIND_MODE_FULL;
+    private long scrollDistance;
     private int prevWidthSpec = -1;
     private int prevHeightSpec = -1;
+    private long anchorItemId = RecyclerView.NO_ID;
+    private boolean anchorPending;
     private OnPositionChangeListener onPositionChangeListener;
+    private FlipAnimator animator;
+    private PageApproachPredictor pageApproachPredictor;
+    private OnPageApproachListener onPageApproachListener;
+    private final PreparedPages preparedPages = new PreparedPages();
+    private final FlipRecyclerStats stats = new FlipRecyclerStats();
+    private boolean strictScrapChecks;
+    private int poolLookupsDuringAdd;
+    private boolean animatorDrivesSmoothScroll;
+    private int prebindPosition = RecyclerView.NO_POSITION;
 
     FlipLayoutManager(final RecyclerView recyclerView, int orientation) {
         Timber.tag(getClass().getSimpleName());
@@ -82,7 +100,7 @@ public class FlipLayoutManager extends RecyclerView.LayoutManager {
                     : Math.min(modifiedDelta * INTERACTIVE_SCROLL_SPEED, -1));
         }
 
-        int desiredDistance = scrollDistance + modifiedDelta;
+        long desiredDistance = scrollDistance + modifiedDelta;
 
         int desiredPosition = getPositionByScrollDistance(desiredDistance);
         if (desiredPosition < 0 || desiredPosition >= state.getItemCount()) {
@@ -98,22 +116,22 @@ public class FlipLayoutManager extends RecyclerView.LayoutManager {
         }
 
         final int maxOverScrollDistance = 70;
-        int minDistance = 0;
-        int maxDistance = ((state.getItemCount() - 1) * DISTANCE_PER_POSITION);
+        long minDistance = 0;
+        long maxDistance = FlipDistance.maxDistance(state.getItemCount());
 
         if (desiredDistance < minDistance - maxOverScrollDistance || desiredDistance > maxDistance + maxOverScrollDistance) {
             return 0;
         }
 
         if (isInteractiveScroll()) {
-            minDistance = (positionBeforeScroll - 1) * DISTANCE_PER_POSITION;
+            minDistance = FlipDistance.forPosition(positionBeforeScroll - 1);
             if (scrollVector > 0) {
-                minDistance = positionBeforeScroll * DISTANCE_PER_POSITION;
+                minDistance = FlipDistance.forPosition(positionBeforeScroll);
             }
 
-            maxDistance = (positionBeforeScroll + 1) * DISTANCE_PER_POSITION;
+            maxDistance = FlipDistance.forPosition(positionBeforeScroll + 1);
             if (scrollVector < 0) {
-                maxDistance = positionBeforeScroll * DISTANCE_PER_POSITION;
+                maxDistance = FlipDistance.forPosition(positionBeforeScroll);
             }
 
             if (desiredDistance < minDistance || desiredDistance > maxDistance) {
@@ -123,47 +141,192 @@ public class FlipLayoutManager extends RecyclerView.LayoutManager {
 
         int oldPosition = getCurrentPosition();
         scrollDistance = desiredDistance;
+        lastScrollDelta = modifiedDelta;
 
         if (oldPosition != desiredPosition) {
             notifyPositionChange(desiredPosition);
         }
 
+        if (pageApproachPredictor != null) {
+            pageApproachPredictor.update(scrollDistance, System.nanoTime(), scrollVector, getTargetPosition(state), state.getItemCount());
+        }
+
         fill(recycler, state);
         return modifiedDelta;
     }
 
-    private int getPositionByScrollDistance(float distance) {
-        return Math.round(distance / DISTANCE_PER_POSITION);
+    private int getPositionByScrollDistance(long distance) {
+        return FlipDistance.toPosition(distance);
     }
 
     public int getCurrentPosition() {
         return getPositionByScrollDistance(getScrollDistance());
     }
 
-    public int getScrollDistance() {
+    public long getScrollDistance() {
         return scrollDistance;
     }
 
+    public int getScrollVector() {
+        return scrollVector;
+    }
+
     public int getAngle() {
         return getAngle(getScrollDistance());
     }
 
-    private int getAngle(int distance) {
-        float currentDistance = distance % DISTANCE_PER_POSITION;
+    private int getAngle(long distance) {
+        return FlipDistance.toAngle(distance);
+    }
+
+    FlipRecyclerStats getStats() {
+        return stats;
+    }
+
+    void setStrictScrapChecks(boolean strictScrapChecks) {
+        this.strictScrapChecks = strictScrapChecks;
+    }
+
+    // called by the view cache extension whenever a page isn't found in scrap or the view cache
+    void onPoolLookup() {
+        poolLookupsDuringAdd++;
+
+        if (!(recyclerView.getAdapter() instanceof FlipPageAdapter)) {
+            stats.onBind();
+        }
+    }
+
+    public int getBindMode() {
+        return bindMode;
+    }
+
+    private int getTargetPosition(RecyclerView.State state) {
+        if (state.hasTargetScrollPosition()) {
+            return state.getTargetScrollPosition();
+        }
+
+        if (isAnimating()) {
+            return animator.getTargetPosition();
+        }
+
+        return RecyclerView.NO_POSITION;
+    }
+
+    private int getBindModeForPosition(int position, RecyclerView.State state) {
+        if (!isScrolling()) {
+            return BIND_MODE_FULL;
+        }
+
+        int targetPosition = getTargetPosition(state);
+
+        if (position == targetPosition) {
+            return BIND_MODE_FULL;
+        }
+
+        if (targetPosition != RecyclerView.NO_POSITION && Math.abs(targetPosition - getCurrentPosition()) > 1) {
+            return BIND_MODE_PLACEHOLDER;
+        }
+
+        return Math.abs(lastScrollDelta) >= FAST_SCROLL_DELTA ? BIND_MODE_PLACEHOLDER : BIND_MODE_FULL;
+    }
+
+    private static boolean isPlaceholder(View view) {
+        Object bindMode = view.getTag(R.id.flip_view_bind_mode);
+        return bindMode != null && (Integer) bindMode == BIND_MODE_PLACEHOLDER;
+    }
 
-        if (currentDistance < 0) {
-            currentDistance += DISTANCE_PER_POSITION;
+    private void requestFullBindIfNeeded(int position) {
+        View view = findViewByPosition(position);
+        if (view == null || !isPlaceholder(view)) {
+            return;
         }
 
-        return Math.round((currentDistance / DISTANCE_PER_POSITION) * DISTANCE_PER_POSITION);
+        // binds can't be requested while a layout or scroll is in progress
+        recyclerView.removeCallbacks(fullBindRunnable);
+        recyclerView.post(fullBindRunnable);
     }
 
+    private final Runnable fullBindRunnable = new Runnable() {
+        @Override
+        public void run() {
+            RecyclerView.Adapter adapter = recyclerView.getAdapter();
+            int position = getCurrentPosition();
+            View view = findViewByPosition(position);
+            if (adapter == null || view == null || !isPlaceholder(view)) {
+                return;
+            }
+
+            Timber.d("fullBind: %d", position);
+            adapter.notifyItemChanged(position, PAYLOAD_FULL_BIND);
+        }
+    };
+
     public void setOnPositionListener(OnPositionChangeListener listener) {
         onPositionChangeListener = listener;
     }
 
+    public void setOnPageApproachListener(OnPageApproachListener listener) {
+        onPageApproachListener = listener;
+        updatePageApproachPredictor();
+    }
+
+    PreparedPages getPreparedPages() {
+        return preparedPages;
+    }
+
+    void setPagePreparer(FlipView.PagePreparer<?> preparer) {
+        preparedPages.setPreparer(preparer);
+        updatePageApproachPredictor();
+        prepareNeighbors();
+    }
+
+    private void updatePageApproachPredictor() {
+        if (onPageApproachListener == null && !preparedPages.hasPreparer()) {
+            pageApproachPredictor = null;
+            return;
+        }
+
+        if (pageApproachPredictor != null) {
+            return;
+        }
+
+        pageApproachPredictor = new PageApproachPredictor(new PageApproachPredictor.Listener() {
+            @Override
+            public void onPageApproach(int position, int direction, long estimatedMillis) {
+                preparedPages.prepare(recyclerView.getAdapter(), position, direction);
+
+                if (onPageApproachListener != null) {
+                    onPageApproachListener.onPageApproach(FlipLayoutManager.this, position, direction, estimatedMillis);
+                }
+            }
+        });
+    }
+
+    private void prepareNeighbors() {
+        if (!preparedPages.hasPreparer() || getItemCount() == 0) {
+            return;
+        }
+
+        int position = getCurrentPosition();
+        preparedPages.prepare(recyclerView.getAdapter(), position, 0);
+        preparedPages.prepare(recyclerView.getAdapter(), position + 1, 0);
+        preparedPages.prepare(recyclerView.getAdapter(), position - 1, 0);
+    }
+
+    void setAnimator(FlipAnimator animator) {
+        this.animator = animator;
+    }
+
+    void setAnimatorDrivesSmoothScroll(boolean animatorDrivesSmoothScroll) {
+        this.animatorDrivesSmoothScroll = animatorDrivesSmoothScroll;
+    }
+
     public boolean isScrolling() {
-        return recyclerView.getScrollState() != RecyclerView.SCROLL_STATE_IDLE;
+        return recyclerView.getScrollState() != RecyclerView.SCROLL_STATE_IDLE || isAnimating();
+    }
+
+    public boolean isAnimating() {
+        return animator != null && animator.isRunning();
     }
 
     public boolean isInteractiveScroll() {
@@ -179,6 +342,63 @@ public class FlipLayoutManager extends RecyclerView.LayoutManager {
         super.onAdapterChanged(oldAdapter, newAdapter);
 
         removeAllViews();
+        anchorPending = true;
+        preparedPages.clear();
+    }
+
+    @Override
+    public void onItemsChanged(RecyclerView recyclerView) {
+        super.onItemsChanged(recyclerView);
+
+        anchorPending = true;
+        preparedPages.clear();
+    }
+
+    @Override
+    public void onItemsUpdated(RecyclerView recyclerView, int positionStart, int itemCount, Object payload) {
+        super.onItemsUpdated(recyclerView, positionStart, itemCount, payload);
+
+        // full bind requests reuse the prepared data, real content changes don't
+        if (payload == PAYLOAD_FULL_BIND || recyclerView.getAdapter() == null || !recyclerView.getAdapter().hasStableIds()) {
+            return;
+        }
+
+        for (int position = positionStart; position < positionStart + itemCount; position++) {
+            preparedPages.invalidate(recyclerView.getAdapter().getItemId(position));
+        }
+    }
+
+    @Override
+    public void onItemsAdded(RecyclerView recyclerView, int positionStart, int itemCount) {
+        super.onItemsAdded(recyclerView, positionStart, itemCount);
+
+        // nothing was shown before the first insert, so start on its first page
+        if (getItemCount() == itemCount || positionStart > getCurrentPosition()) {
+            return;
+        }
+
+        Timber.d("onItemsAdded");
+        shiftCurrentPosition(itemCount);
+    }
+
+    @Override
+    public void onItemsMoved(RecyclerView recyclerView, int from, int to, int itemCount) {
+        super.onItemsMoved(recyclerView, from, to, itemCount);
+
+        int currentPosition = getCurrentPosition();
+        int delta;
+        if (currentPosition >= from && currentPosition < from + itemCount) {
+            delta = to - from;
+        } else if (from < currentPosition && to >= currentPosition) {
+            delta = -itemCount;
+        } else if (from > currentPosition && to <= currentPosition) {
+            delta = itemCount;
+        } else {
+            return;
+        }
+
+        Timber.d("onItemsMoved");
+        shiftCurrentPosition(delta);
     }
 
     @Override
@@ -187,12 +407,16 @@ public class FlipLayoutManager extends RecyclerView.LayoutManager {
 
         if (positionStart + itemCount <= getCurrentPosition()) {
             Timber.d("onItemsRemoved");
-
-            scrollDistance = (getCurrentPosition() - itemCount) * DISTANCE_PER_POSITION;
-            notifyPositionChange(getCurrentPosition());
+            shiftCurrentPosition(-itemCount);
         }
     }
 
+    private void shiftCurrentPosition(int delta) {
+        // keep the angle of a flip in progress, only the index of the pages changed
+        scrollDistance += FlipDistance.forPosition(delta);
+        notifyPositionChange(getCurrentPosition());
+    }
+
     @Override
     public void onMeasure(final RecyclerView.Recycler recycler, final RecyclerView.State state, final int widthSpec, final int heightSpec) {
         if (prevWidthSpec != widthSpec || prevHeightSpec != heightSpec) {
@@ -225,24 +449,30 @@ public class FlipLayoutManager extends RecyclerView.LayoutManager {
 
         detachAndScrapAttachedViews(recycler);
 
-        if (decoratedChildWidth == null || decoratedChildHeight == null) {
-            Timber.d("onLayoutChildren: measuring");
-            View view = recycler.getViewForPosition(0);
-            addView(view);
-            measureChildWithMargins(view, 0, 0);
-            decoratedChildWidth = getDecoratedMeasuredWidth(view);
-            decoratedChildHeight = getDecoratedMeasuredHeight(view);
-            detachAndScrapView(view, recycler);
+        if (anchorPending) {
+            anchorPending = false;
+            restoreAnchorPosition(state);
         }
 
         if (getCurrentPosition() < 0) {
             scrollDistance = 0;
             positionChangedForLayout = true;
         } else if (getCurrentPosition() >= state.getItemCount()) {
-            scrollDistance = (state.getItemCount() - 1) * DISTANCE_PER_POSITION;
+            scrollDistance = FlipDistance.maxDistance(state.getItemCount());
             positionChangedForLayout = true;
         }
 
+        if (decoratedChildWidth == null || decoratedChildHeight == null) {
+            Timber.d("onLayoutChildren: measuring");
+            // measure with the current page so the scrapped view is reused by fill
+            View view = recycler.getViewForPosition(getCurrentPosition());
+            addView(view);
+            measureChildWithMargins(view, 0, 0);
+            decoratedChildWidth = getDecoratedMeasuredWidth(view);
+            decoratedChildHeight = getDecoratedMeasuredHeight(view);
+            detachAndScrapView(view, recycler);
+        }
+
         fill(recycler, state);
 
         Timber.d("onLayoutChildren: added %s views", getItemCount());
@@ -254,6 +484,42 @@ public class FlipLayoutManager extends RecyclerView.LayoutManager {
         }
     }
 
+    private void restoreAnchorPosition(RecyclerView.State state) {
+        RecyclerView.Adapter adapter = recyclerView.getAdapter();
+        if (adapter == null || !adapter.hasStableIds() || anchorItemId == RecyclerView.NO_ID) {
+            return;
+        }
+
+        int oldPosition = getCurrentPosition();
+        int newPosition = findPositionForItemId(adapter, anchorItemId, oldPosition, state.getItemCount());
+        if (newPosition == RecyclerView.NO_POSITION || newPosition == oldPosition) {
+            return;
+        }
+
+        Timber.d("restoreAnchorPosition: item %d moved from %d to %d", anchorItemId, oldPosition, newPosition);
+
+        long offset = scrollDistance - FlipDistance.forPosition(oldPosition);
+        scrollDistance = FlipDistance.forPosition(newPosition) + offset;
+        positionChangedForLayout = true;
+    }
+
+    private static int findPositionForItemId(RecyclerView.Adapter adapter, long itemId, int hint, int itemCount) {
+        // most refreshes only shift the anchor a little, so search outwards from the old position
+        // and give up past the window instead of scanning a huge feed
+        int start = Math.max(0, Math.min(hint, itemCount - 1));
+        for (int i = 0; i <= ANCHOR_SEARCH_WINDOW && (start - i >= 0 || start + i < itemCount); i++) {
+            if (start + i < itemCount && adapter.getItemId(start + i) == itemId) {
+                return start + i;
+            }
+
+            if (i > 0 && start - i >= 0 && adapter.getItemId(start - i) == itemId) {
+                return start - i;
+            }
+        }
+
+        return RecyclerView.NO_POSITION;
+    }
+
     private void fill(RecyclerView.Recycler recycler, RecyclerView.State state) {
         detachAndScrapAttachedViews(recycler);
 
@@ -268,16 +534,49 @@ public class FlipLayoutManager extends RecyclerView.LayoutManager {
         }
 
         addView(getCurrentPosition(), recycler, state);
+        updateAnchorItemId();
+
+        if (layoutOnlyCurrentPosition) {
+            requestFullBindIfNeeded(getCurrentPosition());
+            prepareNeighbors();
+
+            if (prebindPosition != RecyclerView.NO_POSITION) {
+                prebind(prebindPosition, recycler, state);
+                prebindPosition = RecyclerView.NO_POSITION;
+            }
+        }
 
         if (!recycler.getScrapList().isEmpty()) {
             final List<RecyclerView.ViewHolder> scrapList = recycler.getScrapList();
             final int count = scrapList.size();
 
-            for (int i = count - 1; i > 0; i--) {
+            for (int i = count - 1; i >= 0; i--) {
                 RecyclerView.ViewHolder viewHolder = scrapList.get(i);
                 removeAndRecycleView(viewHolder.itemView, recycler);
             }
+
+            final int leaked = recycler.getScrapList().size();
+            stats.onScrap(count, leaked);
+
+            if (leaked > 0) {
+                Timber.w("fill: %d of %d scrapped views survived the layout pass", leaked, count);
+
+                if (strictScrapChecks) {
+                    throw new IllegalStateException(leaked + " scrapped views survived the layout pass");
+                }
+            }
+        }
+    }
+
+    private void updateAnchorItemId() {
+        RecyclerView.Adapter adapter = recyclerView.getAdapter();
+        int position = getCurrentPosition();
+        if (adapter == null || !adapter.hasStableIds() || position < 0 || position >= adapter.getItemCount()) {
+            anchorItemId = RecyclerView.NO_ID;
+            return;
         }
+
+        anchorItemId = adapter.getItemId(position);
     }
 
     private void addView(int position, RecyclerView.Recycler recycler, RecyclerView.State state) {
@@ -285,22 +584,77 @@ public class FlipLayoutManager extends RecyclerView.LayoutManager {
             return;
         }
 
-        View view = recycler.getViewForPosition(position);
+        View view = obtainView(position, recycler, state);
         addView(view);
         measureChildWithMargins(view, 0, 0);
         layoutDecorated(view, 0, 0, decoratedChildWidth, decoratedChildHeight);
     }
 
+    private View obtainView(int position, RecyclerView.Recycler recycler, RecyclerView.State state) {
+        bindMode = getBindModeForPosition(position, state);
+        poolLookupsDuringAdd = 0;
+        View view = recycler.getViewForPosition(position);
+        bindMode = BIND_MODE_FULL;
+
+        if (view.getTag(R.id.flip_view_holder_counted) == null) {
+            view.setTag(R.id.flip_view_holder_counted, Boolean.TRUE);
+            stats.onCreate();
+        } else if (poolLookupsDuringAdd > 0) {
+            stats.onPoolHit();
+        }
+
+        return view;
+    }
+
+    void requestPrebind(int position) {
+        prebindPosition = position;
+        requestLayout();
+    }
+
+    // the bound page waits in the recycler's view cache, the next turn attaches it without binding again
+    private void prebind(int position, RecyclerView.Recycler recycler, RecyclerView.State state) {
+        if (position < 0 || position >= state.getItemCount() || position == getCurrentPosition()) {
+            return;
+        }
+
+        Timber.d("prebind: %d", position);
+        recycler.recycleView(obtainView(position, recycler, state));
+    }
+
+    // the animator scrolls without changing the recycler view's scroll state, so it reports its end here
+    void onAnimationEnd() {
+        if (!isScrolling()) {
+            resetScrollState();
+        }
+    }
+
+    private void resetScrollState() {
+        scrollVector = 0;
+        lastScrollDelta = 0;
+
+        if (pageApproachPredictor != null) {
+            pageApproachPredictor.reset();
+        }
+
+        positionBeforeScroll = RecyclerView.NO_POSITION;
+    }
+
     @Override
     public void onScrollStateChanged(int state) {
         super.onScrollStateChanged(state);
 
         if (!isScrolling()) {
-            scrollVector = 0;
-            positionBeforeScroll = RecyclerView.NO_POSITION;
+            resetScrollState();
+        }
+
+        // the animator settles on its own target
+        if (state != RecyclerView.SCROLL_STATE_IDLE || isAnimating()) {
+            return;
         }
 
-        if (state != RecyclerView.SCROLL_STATE_IDLE || !requiresSettling()) {
+        if (!requiresSettling()) {
+            requestFullBindIfNeeded(getCurrentPosition());
+            prepareNeighbors();
             return;
         }
 
@@ -316,6 +670,11 @@ public class FlipLayoutManager extends RecyclerView.LayoutManager {
     }
 
     private void smoothScrollToPosition(RecyclerView recyclerView, final int position) {
+        if (animator != null && (animatorDrivesSmoothScroll || animator.isRunning())) {
+            animator.animateToPosition(position);
+            return;
+        }
+
         final FlipSmoothScroller smoothScroller = new FlipSmoothScroller(recyclerView.getContext()) {
             @Nullable
             @Override
@@ -347,7 +706,7 @@ public class FlipLayoutManager extends RecyclerView.LayoutManager {
 
     @Override
     public void scrollToPosition(int position) {
-        scrollDistance = position * DISTANCE_PER_POSITION;
+        scrollDistance = FlipDistance.forPosition(position);
         positionChangedForLayout = true;
         requestLayout();
     }
@@ -361,4 +720,8 @@ public class FlipLayoutManager extends RecyclerView.LayoutManager {
     public interface OnPositionChangeListener {
         void onPositionChange(FlipLayoutManager flipLayoutManager, int position);
     }
+
+    public interface OnPageApproachListener {
+        void onPageApproach(FlipLayoutManager flipLayoutManager, int position, int direction, long estimatedMillis);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+package net.gregbeaty.flipview;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.List;
+
+public abstract class FlipPageAdapter<VH extends RecyclerView.ViewHolder> extends RecyclerView.Adapter<VH> {
+    private final FlipPageStore pages;
+    private FlipLayoutManager layoutManager;
+    private int bindMode = FlipView.BIND_MODE_FULL;
+
+    protected FlipPageAdapter() {
+        this(new FlipPageStore());
+    }
+
+    protected FlipPageAdapter(FlipPageStore pages) {
+        this.pages = pages;
+        setHasStableIds(true);
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+
+        if (recyclerView.getLayoutManager() instanceof FlipLayoutManager) {
+            layoutManager = (FlipLayoutManager) recyclerView.getLayoutManager();
+        }
+    }
+
+    @Override
+    public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onDetachedFromRecyclerView(recyclerView);
+
+        layoutManager = null;
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull VH holder, int position, @NonNull List<Object> payloads) {
+        if (payloads.contains(FlipView.PAYLOAD_FULL_BIND) || layoutManager == null) {
+            bindMode = FlipView.BIND_MODE_FULL;
+        } else {
+            bindMode = layoutManager.getBindMode();
+        }
+
+        holder.itemView.setTag(R.id.flip_view_bind_mode, bindMode);
+
+        if (layoutManager != null) {
+            layoutManager.getStats().onBind();
+        }
+
+        try {
+            super.onBindViewHolder(holder, position, payloads);
+        } finally {
+            bindMode = FlipView.BIND_MODE_FULL;
+        }
+    }
+
+    // placeholder binds are followed by a full bind once the page settles as the current page
+    public int getBindMode() {
+        return bindMode;
+    }
+
+    // data made by the flip view's page preparer, null when it isn't ready and the bind has to do the work itself
+    @SuppressWarnings("unchecked")
+    protected <T> T getPreparedPage(int position) {
+        if (layoutManager == null) {
+            return null;
+        }
+
+        return (T) layoutManager.getPreparedPages().get(getItemId(position));
+    }
+
+    @Override
+    public int getItemCount() {
+        return pages.size();
+    }
+
+    @Override
+    public final long getItemId(int position) {
+        return pages.getId(position);
+    }
+
+    public long getPageId(int position) {
+        return pages.getId(position);
+    }
+
+    public int getPageValue(int position) {
+        return pages.getValue(position);
+    }
+
+    public int indexOfPage(long id) {
+        return pages.indexOfId(id);
+    }
+
+    public void addPage(long id, int value) {
+        pages.add(id, value);
+        notifyItemInserted(pages.size() - 1);
+    }
+
+    public void addPages(long[] ids, int[] values) {
+        insertPages(pages.size(), ids, values);
+    }
+
+    public void insertPage(int position, long id, int value) {
+        pages.insert(position, id, value);
+        notifyItemInserted(position);
+    }
+
+    public void insertPages(int position, long[] ids, int[] values) {
+        if (ids.length == 0) {
+            return;
+        }
+
+        pages.insert(position, ids, values);
+        notifyItemRangeInserted(position, ids.length);
+    }
+
+    public void movePage(int from, int to) {
+        if (from == to) {
+            return;
+        }
+
+        long id = pages.getId(from);
+        int value = pages.getValue(from);
+        pages.remove(from, 1);
+        pages.insert(to, id, value);
+        notifyItemMoved(from, to);
+    }
+
+    public void setPageValue(int position, int value) {
+        pages.setValue(position, value);
+        notifyItemChanged(position);
+    }
+
+    public void removePage(int position) {
+        removePages(position, 1);
+    }
+
+    public void removePages(int position, int count) {
+        if (count == 0) {
+            return;
+        }
+
+        pages.remove(position, count);
+        notifyItemRangeRemoved(position, count);
+    }
+
+    public void clearPages() {
+        int count = pages.size();
+        if (count == 0) {
+            return;
+        }
+
+        pages.clear();
+        notifyItemRangeRemoved(0, count);
+    }
+
+    public void trimToSize() {
+        pages.trimToSize();
+    }
+}
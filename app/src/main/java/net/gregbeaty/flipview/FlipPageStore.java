@@ -0,0 +1,132 @@
+package net.gregbeaty.flipview;
+
+import java.util.Arrays;
+
+public class FlipPageStore {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] ids;
+    private int[] values;
+    private int size;
+
+    public FlipPageStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public FlipPageStore(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("capacity can't be less then 0. capacity is: " + initialCapacity);
+        }
+
+        ids = new long[initialCapacity];
+        values = new int[initialCapacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getId(int position) {
+        checkPosition(position);
+        return ids[position];
+    }
+
+    public int getValue(int position) {
+        checkPosition(position);
+        return values[position];
+    }
+
+    public void setValue(int position, int value) {
+        checkPosition(position);
+        values[position] = value;
+    }
+
+    public int indexOfId(long id) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public void add(long id, int value) {
+        insert(size, id, value);
+    }
+
+    public void insert(int position, long id, int value) {
+        checkInsertPosition(position);
+        ensureCapacity(size + 1);
+
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        System.arraycopy(values, position, values, position + 1, size - position);
+        ids[position] = id;
+        values[position] = value;
+        size++;
+    }
+
+    public void insert(int position, long[] newIds, int[] newValues) {
+        checkInsertPosition(position);
+        if (newValues != null && newValues.length != newIds.length) {
+            throw new IllegalArgumentException("ids and values must have the same length. ids: " + newIds.length + " values: " + newValues.length);
+        }
+
+        final int count = newIds.length;
+        ensureCapacity(size + count);
+
+        System.arraycopy(ids, position, ids, position + count, size - position);
+        System.arraycopy(values, position, values, position + count, size - position);
+        System.arraycopy(newIds, 0, ids, position, count);
+        if (newValues != null) {
+            System.arraycopy(newValues, 0, values, position, count);
+        } else {
+            Arrays.fill(values, position, position + count, 0);
+        }
+
+        size += count;
+    }
+
+    public void remove(int position, int count) {
+        if (count < 0 || position < 0 || position + count > size) {
+            throw new IndexOutOfBoundsException("range " + position + "+" + count + " is outside of size " + size);
+        }
+
+        System.arraycopy(ids, position + count, ids, position, size - position - count);
+        System.arraycopy(values, position + count, values, position, size - position - count);
+        size -= count;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void trimToSize() {
+        if (ids.length != size) {
+            ids = Arrays.copyOf(ids, size);
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, ids.length + (ids.length >> 1) + 1);
+        ids = Arrays.copyOf(ids, newCapacity);
+        values = Arrays.copyOf(values, newCapacity);
+    }
+
+    private void checkPosition(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("position " + position + " is outside of size " + size);
+        }
+    }
+
+    private void checkInsertPosition(int position) {
+        if (position < 0 || position > size) {
+            throw new IndexOutOfBoundsException("position " + position + " is outside of size " + size);
+        }
+    }
+}
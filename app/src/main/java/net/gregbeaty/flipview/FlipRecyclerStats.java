@@ -0,0 +1,104 @@
+package net.gregbeaty.flipview;
+
+public class FlipRecyclerStats {
+    private long creates;
+    private long binds;
+    private long recycles;
+    private long poolHits;
+    private long scrapRecycles;
+    private long scrapLeaks;
+    private int lastScrapSize;
+    private int maxScrapSize;
+
+    FlipRecyclerStats() {
+    }
+
+    FlipRecyclerStats(FlipRecyclerStats other) {
+        creates = other.creates;
+        binds = other.binds;
+        recycles = other.recycles;
+        poolHits = other.poolHits;
+        scrapRecycles = other.scrapRecycles;
+        scrapLeaks = other.scrapLeaks;
+        lastScrapSize = other.lastScrapSize;
+        maxScrapSize = other.maxScrapSize;
+    }
+
+    public long getCreates() {
+        return creates;
+    }
+
+    public long getBinds() {
+        return binds;
+    }
+
+    public long getRecycles() {
+        return recycles;
+    }
+
+    public long getPoolHits() {
+        return poolHits;
+    }
+
+    public long getScrapRecycles() {
+        return scrapRecycles;
+    }
+
+    public long getScrapLeaks() {
+        return scrapLeaks;
+    }
+
+    public int getLastScrapSize() {
+        return lastScrapSize;
+    }
+
+    public int getMaxScrapSize() {
+        return maxScrapSize;
+    }
+
+    void onCreate() {
+        creates++;
+    }
+
+    void onBind() {
+        binds++;
+    }
+
+    void onRecycle() {
+        recycles++;
+    }
+
+    void onPoolHit() {
+        poolHits++;
+    }
+
+    void onScrap(int scrapSize, int leaked) {
+        lastScrapSize = scrapSize;
+        maxScrapSize = Math.max(maxScrapSize, scrapSize);
+        scrapRecycles += scrapSize - leaked;
+        scrapLeaks += leaked;
+    }
+
+    void reset() {
+        creates = 0;
+        binds = 0;
+        recycles = 0;
+        poolHits = 0;
+        scrapRecycles = 0;
+        scrapLeaks = 0;
+        lastScrapSize = 0;
+        maxScrapSize = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "FlipRecyclerStats{creates=" + creates
+                + ", binds=" + binds
+                + ", recycles=" + recycles
+                + ", poolHits=" + poolHits
+                + ", scrapRecycles=" + scrapRecycles
+                + ", scrapLeaks=" + scrapLeaks
+                + ", maxScrapSize=" + maxScrapSize
+                + "}";
+    }
+}
@@ -1,38 +1,45 @@
 package net.gregbeaty.flipview;
 
 import android.content.Context;
-import android.graphics.Camera;
 import android.graphics.Canvas;
-import android.graphics.Matrix;
-import android.graphics.Paint;
-import android.graphics.Rect;
 import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
 import android.util.AttributeSet;
+import android.view.Choreographer;
 import android.view.MotionEvent;
 import android.view.View;
 
+import java.util.concurrent.TimeUnit;
+
 import timber.log.Timber;
 
 public class FlipRecyclerView extends RecyclerView {
-    private static final int MAX_SHADOW_ALPHA = 180;
-    private static final int MAX_SHADE_ALPHA = 130;
-    private static final int MAX_SHINE_ALPHA = 100;
-
-    private final Rect topClippingRect = new Rect();
-    private final Rect bottomClippingRect = new Rect();
-    private final Rect rightClippingRect = new Rect();
-    private final Rect leftClippingRect = new Rect();
-
-    private Camera camera = new Camera();
-    private Matrix matrix = new Matrix();
-
-    private final Paint shadowPaint = new Paint();
-    private final Paint shadePaint = new Paint();
-    private final Paint shinePaint = new Paint();
+    private static FlipRenderer sharedRenderer;
+
+    private final FlipRenderer.Frame frame = new FlipRenderer.Frame(this);
+    private FlipRenderer defaultRenderer = new Flip3DRenderer();
+    private FlipRenderer renderer;
+    private final PageDisplayList[] displayLists = {new PageDisplayList(), new PageDisplayList(), new PageDisplayList()};
+    private long drawPass;
+    private boolean coalesceTouchMoves = true;
+    private MotionEvent pendingMove;
+    private boolean moveFrameScheduled;
+    private long minMoveIntervalNanos;
+    private long lastMoveFrameTimeNanos;
+
+    private final Choreographer.FrameCallback moveFrameCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            moveFrameScheduled = false;
+            lastMoveFrameTimeNanos = frameTimeNanos;
+            flushPendingMove();
+        }
+    };
 
     public FlipRecyclerView(@NonNull Context context) {
         super(context);
+
+        init(context, null);
     }
 
     public FlipRecyclerView(Context context, AttributeSet attrs) {
@@ -51,6 +58,25 @@ public class FlipRecyclerView extends RecyclerView {
         setItemAnimator(new DefaultItemAnimator());
     }
 
+    // renderers only hold scratch state for the duration of a draw, so tiles can share one
+    void setUseSharedRenderer(boolean useShared) {
+        if (useShared && sharedRenderer == null) {
+            sharedRenderer = new Flip3DRenderer();
+        }
+
+        defaultRenderer = useShared ? sharedRenderer : new Flip3DRenderer();
+        invalidate();
+    }
+
+    public FlipRenderer getRenderer() {
+        return renderer != null ? renderer : defaultRenderer;
+    }
+
+    public void setRenderer(FlipRenderer renderer) {
+        this.renderer = renderer;
+        invalidate();
+    }
+
     @Override
     public int getOverScrollMode() {
         return View.OVER_SCROLL_NEVER;
@@ -61,38 +87,81 @@ public class FlipRecyclerView extends RecyclerView {
         return false;
     }
 
+    void setCoalesceTouchMoves(boolean coalesceTouchMoves) {
+        this.coalesceTouchMoves = coalesceTouchMoves;
+
+        if (!coalesceTouchMoves) {
+            flushPendingMove();
+        }
+    }
+
+    boolean isCoalesceTouchMoves() {
+        return coalesceTouchMoves;
+    }
+
+    void setLowPower(boolean lowPower, long minFrameIntervalNanos) {
+        frame.setLowPower(lowPower);
+        minMoveIntervalNanos = minFrameIntervalNanos;
+        invalidate();
+    }
+
     @Override
     public boolean onTouchEvent(MotionEvent e) {
         if (getLayoutManager() == null) {
             return super.onTouchEvent(e);
         }
 
-        return getScrollState() != RecyclerView.SCROLL_STATE_SETTLING && super.onTouchEvent(e);
+        if (getScrollState() == RecyclerView.SCROLL_STATE_SETTLING || getLayoutManager().isAnimating()) {
+            dropPendingMove();
+            return false;
+        }
+
+        // while dragging only the latest move matters, recycler view scrolls by the distance to the last applied touch
+        if (coalesceTouchMoves && e.getActionMasked() == MotionEvent.ACTION_MOVE && getScrollState() == RecyclerView.SCROLL_STATE_DRAGGING) {
+            if (pendingMove != null) {
+                pendingMove.recycle();
+            }
+
+            pendingMove = MotionEvent.obtain(e);
+            if (!moveFrameScheduled) {
+                moveFrameScheduled = true;
+                scheduleMoveFrame();
+            }
+
+            return true;
+        }
+
+        flushPendingMove();
+        return super.onTouchEvent(e);
     }
 
-    @Override
-    protected void onLayout(boolean changed, int l, int t, int r, int b) {
-        topClippingRect.top = 0;
-        topClippingRect.left = 0;
-        topClippingRect.right = getWidth();
-        topClippingRect.bottom = getHeight() / 2;
+    // capped input sleeps until the first vsync it may use instead of waking on every frame
+    private void scheduleMoveFrame() {
+        long delayNanos = minMoveIntervalNanos == 0 ? 0 : lastMoveFrameTimeNanos + minMoveIntervalNanos - System.nanoTime();
+        Choreographer.getInstance().postFrameCallbackDelayed(moveFrameCallback, TimeUnit.NANOSECONDS.toMillis(Math.max(0, delayNanos)));
+    }
 
-        bottomClippingRect.top = getHeight() / 2;
-        bottomClippingRect.left = 0;
-        bottomClippingRect.right = getWidth();
-        bottomClippingRect.bottom = getHeight();
+    private void flushPendingMove() {
+        if (pendingMove == null) {
+            return;
+        }
 
-        leftClippingRect.top = 0;
-        leftClippingRect.left = 0;
-        leftClippingRect.right = getWidth() / 2;
-        leftClippingRect.bottom = getHeight();
+        MotionEvent move = pendingMove;
+        pendingMove = null;
+        super.onTouchEvent(move);
+        move.recycle();
+    }
 
-        rightClippingRect.top = 0;
-        rightClippingRect.left = getWidth() / 2;
-        rightClippingRect.right = getWidth();
-        rightClippingRect.bottom = getHeight();
+    private void dropPendingMove() {
+        if (moveFrameScheduled) {
+            moveFrameScheduled = false;
+            Choreographer.getInstance().removeFrameCallback(moveFrameCallback);
+        }
 
-        super.onLayout(changed, l, t, r, b);
+        if (pendingMove != null) {
+            pendingMove.recycle();
+            pendingMove = null;
+        }
     }
 
     @Override
@@ -152,81 +221,50 @@ public class FlipRecyclerView extends RecyclerView {
             return;
         }
 
-        //draw previous half
-        canvas.save();
-        canvas.clipRect(isVerticalScrolling ? topClippingRect : leftClippingRect);
-        final View previousHalf = angle >= 90 ? previousView : currentView;
-        if (previousHalf != null) {
-            drawChild(canvas, previousHalf, 0);
-        }
-
-        if (angle > 90) {
-            final int alpha = (int) (((angle - 90) / 90f) * MAX_SHADOW_ALPHA);
-            shadowPaint.setAlpha(alpha);
-            canvas.drawPaint(shadowPaint);
-        }
-
-        canvas.restore();
-
-        //draw next half
-        canvas.save();
-        canvas.clipRect(isVerticalScrolling ? bottomClippingRect : rightClippingRect);
-        final View nextHalf = angle >= 90 ? currentView : nextView;
-
-        if (nextHalf != null) {
-            drawChild(canvas, nextHalf, 0);
-        }
+        drawPass++;
+        frame.set(previousView, currentView, nextView, angle, isVerticalScrolling);
+        getRenderer().draw(canvas, frame);
+        frame.clear();
+    }
 
-        if (angle < 90) {
-            final int alpha = (int) ((Math.abs(angle - 90) / 90f) * MAX_SHADOW_ALPHA);
-            shadowPaint.setAlpha(alpha);
-            canvas.drawPaint(shadowPaint);
+    // hardware canvases already replay each page's RenderNode, software canvases record a page once per pass
+    void drawPage(Canvas canvas, View page) {
+        // the recorded picture only holds the page content, so animated alpha and transforms
+        // still go through drawChild
+        if (canvas.isHardwareAccelerated() || page.getAlpha() != 1f || !page.getMatrix().isIdentity()) {
+            drawChild(canvas, page, 0);
+            return;
         }
 
-        canvas.restore();
-
-        //draw flipping half
-        canvas.save();
-        camera.save();
+        getDisplayList(page).draw(canvas, page, drawPass);
+    }
 
-        if (angle > 90) {
-            canvas.clipRect(isVerticalScrolling ? topClippingRect : leftClippingRect);
-            if (isVerticalScrolling) {
-                camera.rotateX(angle - 180);
-            } else {
-                camera.rotateY(180 - angle);
+    private PageDisplayList getDisplayList(View page) {
+        PageDisplayList oldest = displayLists[0];
+        for (PageDisplayList displayList : displayLists) {
+            if (displayList.getView() == page) {
+                return displayList;
             }
-        } else {
-            canvas.clipRect(isVerticalScrolling ? bottomClippingRect : rightClippingRect);
-            if (isVerticalScrolling) {
-                camera.rotateX(angle);
-            } else {
-                camera.rotateY(-angle);
+
+            if (displayList.getUsedPass() < oldest.getUsedPass()) {
+                oldest = displayList;
             }
         }
 
-        camera.getMatrix(matrix);
-
-        matrix.preScale(0.25f, 0.25f);
-        matrix.postScale(4.0f, 4.0f);
-        matrix.preTranslate(-getWidth() / 2, -getHeight() / 2);
-        matrix.postTranslate(getWidth() / 2, getHeight() / 2);
-
-        canvas.concat(matrix);
-
-        drawChild(canvas, currentView, 0);
+        return oldest;
+    }
 
-        if (angle < 90) {
-            final int alpha = (int) ((angle / 90f) * MAX_SHINE_ALPHA);
-            shinePaint.setAlpha(alpha);
-            canvas.drawRect(isVerticalScrolling ? bottomClippingRect : rightClippingRect, shinePaint);
-        } else {
-            final int alpha = (int) ((Math.abs(angle - 180) / 90f) * MAX_SHADE_ALPHA);
-            shadePaint.setAlpha(alpha);
-            canvas.drawRect(isVerticalScrolling ? topClippingRect : leftClippingRect, shadePaint);
+    void releaseDisplayLists() {
+        for (PageDisplayList displayList : displayLists) {
+            displayList.release();
         }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
 
-        camera.restore();
-        canvas.restore();
+        dropPendingMove();
+        releaseDisplayLists();
     }
 }
@@ -0,0 +1,95 @@
+package net.gregbeaty.flipview;
+
+import android.graphics.Canvas;
+import android.view.View;
+
+public interface FlipRenderer {
+    int COST_TIER_LOW = 0;
+    int COST_TIER_MEDIUM = 1;
+    int COST_TIER_HIGH = 2;
+
+    int getCostTier();
+
+    void draw(Canvas canvas, Frame frame);
+
+    final class Frame {
+        private final FlipRecyclerView host;
+        private View previousView;
+        private View currentView;
+        private View nextView;
+        private int angle;
+        private boolean vertical;
+        private boolean lowPower;
+
+        Frame(FlipRecyclerView host) {
+            this.host = host;
+        }
+
+        void set(View previousView, View currentView, View nextView, int angle, boolean vertical) {
+            this.previousView = previousView;
+            this.currentView = currentView;
+            this.nextView = nextView;
+            this.angle = angle;
+            this.vertical = vertical;
+        }
+
+        void setLowPower(boolean lowPower) {
+            this.lowPower = lowPower;
+        }
+
+        void clear() {
+            previousView = null;
+            currentView = null;
+            nextView = null;
+        }
+
+        public View getPreviousView() {
+            return previousView;
+        }
+
+        public View getCurrentView() {
+            return currentView;
+        }
+
+        public View getNextView() {
+            return nextView;
+        }
+
+        public View getFromView() {
+            return angle >= 90 ? previousView : currentView;
+        }
+
+        public View getToView() {
+            return angle >= 90 ? currentView : nextView;
+        }
+
+        public int getAngle() {
+            return angle;
+        }
+
+        public float getProgress() {
+            return angle / (float) FlipLayoutManager.DISTANCE_PER_POSITION;
+        }
+
+        public boolean isVertical() {
+            return vertical;
+        }
+
+        // renderers should skip effects that don't carry the motion, like lighting
+        public boolean isLowPower() {
+            return lowPower;
+        }
+
+        public int getWidth() {
+            return host.getWidth();
+        }
+
+        public int getHeight() {
+            return host.getHeight();
+        }
+
+        public void drawPage(Canvas canvas, View page) {
+            host.drawPage(canvas, page);
+        }
+    }
+}
@@ -31,9 +31,9 @@ abstract class FlipSmoothScroller extends LinearSmoothScroller {
     }
 
     private int calculateDeltaToMakeVisible(FlipLayoutManager layoutManager, View view) {
-        int scrollDistance = layoutManager.getScrollDistance();
-        int distanceForPage = layoutManager.getPosition(view) * FlipLayoutManager.DISTANCE_PER_POSITION;
-        return scrollDistance - distanceForPage;
+        long scrollDistance = layoutManager.getScrollDistance();
+        long distanceForPage = FlipDistance.forPosition(layoutManager.getPosition(view));
+        return FlipDistance.clampToInt(scrollDistance - distanceForPage);
     }
 
     @Override
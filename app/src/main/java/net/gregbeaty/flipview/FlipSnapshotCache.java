@@ -0,0 +1,259 @@
+package net.gregbeaty.flipview;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Handler;
+import android.os.Looper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import timber.log.Timber;
+
+public class FlipSnapshotCache {
+    private static final String DIRECTORY_NAME = "flip_view_snapshots";
+    private static final String LAST_FILE_NAME = "last";
+    private static final String SNAPSHOT_EXTENSION = ".jpg";
+    private static final int SNAPSHOT_QUALITY = 85;
+
+    private final File directory;
+    private final long maxBytes;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final AtomicLong saveSequence = new AtomicLong();
+    private final AtomicReference<Bitmap> spareBitmap = new AtomicReference<>();
+    private final Object lock = new Object();
+    private Executor executor;
+
+    public FlipSnapshotCache(Context context, long maxBytes) {
+        this(new File(context.getCacheDir(), DIRECTORY_NAME), maxBytes);
+    }
+
+    public FlipSnapshotCache(File directory, long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("max bytes must be greater then 0. max bytes is: " + maxBytes);
+        }
+
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    private Executor getExecutor() {
+        return executor != null ? executor : FlipExecutors.background();
+    }
+
+    Bitmap obtainBitmap(int width, int height) {
+        // the spare is only handed back once its previous save has been written
+        Bitmap bitmap = spareBitmap.getAndSet(null);
+        if (bitmap != null && bitmap.getWidth() == width && bitmap.getHeight() == height) {
+            return bitmap;
+        }
+
+        if (bitmap != null) {
+            bitmap.recycle();
+        }
+
+        return Bitmap.createBitmap(width, height, Bitmap.Config.RGB_565);
+    }
+
+    private void releaseBitmap(Bitmap bitmap) {
+        if (!spareBitmap.compareAndSet(null, bitmap)) {
+            bitmap.recycle();
+        }
+    }
+
+    void save(final long itemId, final Bitmap bitmap) {
+        final long sequence = saveSequence.incrementAndGet();
+
+        getExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                synchronized (lock) {
+                    try {
+                        write(itemId, bitmap, sequence);
+                        trim();
+                    } catch (IOException e) {
+                        Timber.w(e, "save: unable to write snapshot for %d", itemId);
+                    } finally {
+                        releaseBitmap(bitmap);
+                    }
+                }
+            }
+        });
+    }
+
+    void loadLast(final Callback callback) {
+        getExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                final Bitmap bitmap;
+                synchronized (lock) {
+                    bitmap = readLast();
+                }
+
+                if (bitmap == null) {
+                    return;
+                }
+
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        callback.onSnapshotLoaded(bitmap);
+                    }
+                });
+            }
+        });
+    }
+
+    public void clear() {
+        getExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                synchronized (lock) {
+                    File[] files = directory.listFiles();
+                    if (files == null) {
+                        return;
+                    }
+
+                    for (File file : files) {
+                        //noinspection ResultOfMethodCallIgnored
+                        file.delete();
+                    }
+                }
+            }
+        });
+    }
+
+    private void write(long itemId, Bitmap bitmap, long sequence) throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Unable to create " + directory);
+        }
+
+        File file = getSnapshotFile(itemId);
+        File temp = new File(directory, file.getName() + ".tmp");
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(temp));
+        try {
+            bitmap.compress(Bitmap.CompressFormat.JPEG, SNAPSHOT_QUALITY, out);
+        } finally {
+            out.close();
+        }
+
+        if (!temp.renameTo(file)) {
+            throw new IOException("Unable to rename " + temp + " to " + file);
+        }
+
+        // a newer snapshot may already have been written by the time this one finishes
+        if (sequence != saveSequence.get()) {
+            return;
+        }
+
+        Writer writer = new FileWriter(new File(directory, LAST_FILE_NAME));
+        try {
+            writer.write(Long.toString(itemId));
+        } finally {
+            writer.close();
+        }
+    }
+
+    private File readLastFile() throws IOException {
+        File lastFile = new File(directory, LAST_FILE_NAME);
+        if (!lastFile.exists()) {
+            return null;
+        }
+
+        long itemId;
+        BufferedReader reader = new BufferedReader(new FileReader(lastFile));
+        try {
+            itemId = Long.parseLong(reader.readLine().trim());
+        } finally {
+            reader.close();
+        }
+
+        return getSnapshotFile(itemId);
+    }
+
+    private Bitmap readLast() {
+        try {
+            File file = readLastFile();
+            if (file == null || !file.exists()) {
+                return null;
+            }
+
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inPreferredConfig = Bitmap.Config.RGB_565;
+
+            InputStream in = new BufferedInputStream(new FileInputStream(file));
+            try {
+                return BitmapFactory.decodeStream(in, null, options);
+            } finally {
+                in.close();
+            }
+        } catch (IOException | RuntimeException e) {
+            Timber.w(e, "readLast: unable to read snapshot");
+            return null;
+        }
+    }
+
+    private void trim() {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        // the snapshot "last" points to is kept even when it alone is over the limit
+        File lastFile;
+        try {
+            lastFile = readLastFile();
+        } catch (IOException | RuntimeException e) {
+            Timber.w(e, "trim: unable to read last snapshot");
+            lastFile = null;
+        }
+
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(File a, File b) {
+                return Long.compare(b.lastModified(), a.lastModified());
+            }
+        });
+
+        long total = lastFile != null ? lastFile.length() : 0;
+        for (File file : files) {
+            if (!file.getName().endsWith(SNAPSHOT_EXTENSION) || file.equals(lastFile)) {
+                continue;
+            }
+
+            total += file.length();
+            if (total > maxBytes) {
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+            }
+        }
+    }
+
+    private File getSnapshotFile(long itemId) {
+        return new File(directory, itemId + SNAPSHOT_EXTENSION);
+    }
+
+    interface Callback {
+        void onSnapshotLoaded(Bitmap bitmap);
+    }
+}
@@ -0,0 +1,85 @@
+package net.gregbeaty.flipview;
+
+import android.view.Choreographer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+final class FlipTicker implements Choreographer.FrameCallback {
+    private static FlipTicker instance;
+
+    private final List<FlipAnimator> animators = new ArrayList<>();
+    private FlipAnimator[] frameAnimators = new FlipAnimator[0];
+    private boolean frameScheduled;
+    private long scheduledFrameTimeNanos;
+
+    private FlipTicker() {
+    }
+
+    static FlipTicker getInstance() {
+        if (instance == null) {
+            instance = new FlipTicker();
+        }
+
+        return instance;
+    }
+
+    void register(FlipAnimator animator) {
+        if (!animators.contains(animator)) {
+            animators.add(animator);
+        }
+
+        schedule();
+    }
+
+    void unregister(FlipAnimator animator) {
+        animators.remove(animator);
+
+        if (animators.isEmpty() && frameScheduled) {
+            Choreographer.getInstance().removeFrameCallback(this);
+            frameScheduled = false;
+        }
+    }
+
+    void schedule() {
+        long nextFrameTimeNanos = Long.MAX_VALUE;
+        for (int i = 0; i < animators.size(); i++) {
+            nextFrameTimeNanos = Math.min(nextFrameTimeNanos, animators.get(i).getNextFrameTimeNanos());
+        }
+
+        if (nextFrameTimeNanos == Long.MAX_VALUE) {
+            return;
+        }
+
+        if (frameScheduled && scheduledFrameTimeNanos <= nextFrameTimeNanos) {
+            return;
+        }
+
+        Choreographer choreographer = Choreographer.getInstance();
+        if (frameScheduled) {
+            choreographer.removeFrameCallback(this);
+        }
+
+        long delayMillis = TimeUnit.NANOSECONDS.toMillis(Math.max(0, nextFrameTimeNanos - System.nanoTime()));
+        choreographer.postFrameCallbackDelayed(this, delayMillis);
+        frameScheduled = true;
+        scheduledFrameTimeNanos = nextFrameTimeNanos;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        frameScheduled = false;
+
+        // animators may unregister themselves while being advanced
+        frameAnimators = animators.toArray(frameAnimators);
+        int count = animators.size();
+        for (int i = 0; i < count; i++) {
+            FlipAnimator animator = frameAnimators[i];
+            frameAnimators[i] = null;
+            animator.doFrame(frameTimeNanos);
+        }
+
+        schedule();
+    }
+}
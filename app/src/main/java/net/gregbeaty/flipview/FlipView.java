@@ -1,16 +1,33 @@
 package net.gregbeaty.flipview;
 
+import android.content.BroadcastReceiver;
+import android.content.ComponentCallbacks2;
 import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.content.res.Configuration;
 import android.content.res.TypedArray;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.os.Build;
+import android.os.Parcelable;
+import android.os.PowerManager;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.RecyclerView;
 import android.util.AttributeSet;
-import android.view.LayoutInflater;
+import android.view.Choreographer;
 import android.view.View;
 import android.widget.FrameLayout;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class FlipView extends FrameLayout {
     public static final int SCROLL_STATE_DRAGGING = RecyclerView.SCROLL_STATE_DRAGGING;
@@ -20,11 +37,62 @@ public class FlipView extends FrameLayout {
     public static final int HORIZONTAL = FlipLayoutManager.HORIZONTAL;
     public static final int VERTICAL = FlipLayoutManager.VERTICAL;
     public static final int NO_POSITION = RecyclerView.NO_POSITION;
-
-    private RecyclerView recyclerView;
+    public static final long UNKNOWN_TIME = PageApproachPredictor.UNKNOWN_TIME;
+    private static final long SNAPSHOT_DELAY_MILLIS = 500;
+    private static final int ITEM_VIEW_CACHE_SIZE = 2;
+    private static final int DEFAULT_LOW_POWER_FRAME_RATE = 30;
+    public static final int POWER_POLICY_AUTO = 0;
+    public static final int POWER_POLICY_NORMAL = 1;
+    public static final int POWER_POLICY_SAVER = 2;
+    public static final int BIND_MODE_FULL = FlipLayoutManager.BIND_MODE_FULL;
+    public static final int BIND_MODE_PLACEHOLDER = FlipLayoutManager.BIND_MODE_PLACEHOLDER;
+    public static final Object PAYLOAD_FULL_BIND = FlipLayoutManager.PAYLOAD_FULL_BIND;
+
+    private FlipRecyclerView recyclerView;
     private final List<OnPositionChangeListener> onPositionChangeListeners = new ArrayList<>();
     private final List<OnScrollListener> onScrollListeners = new ArrayList<>();
+    private final List<OnPageApproachListener> onPageApproachListeners = new ArrayList<>();
+    private final List<OnFlipProgressListener> onFlipProgressListeners = new ArrayList<>();
+    private OnFlipProgressListener[] flipProgressDispatch = new OnFlipProgressListener[0];
+    private boolean flipProgressFramePosted;
     private FlipLayoutManager layoutManager;
+    private FlipAnimator animator;
+    private ViewHolderWarmer viewHolderWarmer;
+    private FlipSnapshotCache snapshotCache;
+    private Bitmap snapshot;
+    private long lastSnapshotItemId = RecyclerView.NO_ID;
+    private final Rect snapshotBounds = new Rect();
+    private final Paint snapshotPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+    private boolean tileMode;
+    private boolean memoryCallbacksRegistered;
+    private int dispatchedScrollState = SCROLL_STATE_IDLE;
+    private int powerPolicy = POWER_POLICY_AUTO;
+    private int lowPowerFrameRate = DEFAULT_LOW_POWER_FRAME_RATE;
+    private boolean lowPower;
+    private boolean powerSaveReceiverRegistered;
+
+    private final BroadcastReceiver powerSaveReceiver = new BroadcastReceiver() {
+        @Override
+        public void onReceive(Context context, Intent intent) {
+            updateLowPower();
+        }
+    };
+
+    private final ComponentCallbacks2 memoryCallbacks = new ComponentCallbacks2() {
+        @Override
+        public void onTrimMemory(int level) {
+            trimMemory(level);
+        }
+
+        @Override
+        public void onLowMemory() {
+            trimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+        }
+
+        @Override
+        public void onConfigurationChanged(Configuration newConfig) {
+        }
+    };
 
     public FlipView(@NonNull Context context) {
         this(context, null);
@@ -45,19 +113,16 @@ public class FlipView extends FrameLayout {
         int orientation = a.getInteger(R.styleable.FlipView_android_orientation, VERTICAL);
         a.recycle();
 
-        LayoutInflater inflate = LayoutInflater.from(context);
-        View view = inflate.inflate(R.layout.flip_view, this, true);
-        recyclerView = view.findViewById(R.id.flip_view_recycler_view);
+        recyclerView = new FlipRecyclerView(context);
+        recyclerView.setId(R.id.flip_view_recycler_view);
+        addView(recyclerView, new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT));
 
         recyclerView.setHasFixedSize(true);
+        recyclerView.setItemViewCacheSize(ITEM_VIEW_CACHE_SIZE);
         recyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
             @Override
             public void onScrollStateChanged(RecyclerView recyclerView, int newState) {
-                FlipView.this.onScrollStateChanged(newState);
-
-                for (OnScrollListener listener : onScrollListeners) {
-                    listener.onScrollStateChanged(FlipView.this, newState);
-                }
+                dispatchScrollStateChanged();
             }
 
             @Override
@@ -65,6 +130,7 @@ public class FlipView extends FrameLayout {
                 super.onScrolled(recyclerView, dx, dy);
 
                 FlipView.this.onScrolled(dx, dy);
+                postFlipProgress();
 
                 for (OnScrollListener listener : onScrollListeners) {
                     listener.onScrolled(FlipView.this, dx, dy);
@@ -76,13 +142,269 @@ public class FlipView extends FrameLayout {
         layoutManager.setOnPositionListener(new FlipLayoutManager.OnPositionChangeListener() {
             @Override
             public void onPositionChange(FlipLayoutManager flipLayoutManager, int position) {
+                scheduleSnapshot();
+                postFlipProgress();
+
                 for (OnPositionChangeListener listener : onPositionChangeListeners) {
                     listener.onPositionChange(FlipView.this, position);
                 }
             }
         });
 
+        animator = new FlipAnimator(recyclerView, layoutManager, new FlipAnimator.Listener() {
+            @Override
+            public void onAnimationStart(FlipAnimator animator) {
+                dispatchScrollStateChanged();
+            }
+
+            @Override
+            public void onAnimationEnd(FlipAnimator animator) {
+                dispatchScrollStateChanged();
+            }
+        });
+        layoutManager.setAnimator(animator);
+        viewHolderWarmer = new ViewHolderWarmer(recyclerView, layoutManager.getStats());
+
+        recyclerView.setRecyclerListener(new RecyclerView.RecyclerListener() {
+            @Override
+            public void onViewRecycled(@NonNull RecyclerView.ViewHolder holder) {
+                layoutManager.getStats().onRecycle();
+            }
+        });
+        recyclerView.setViewCacheExtension(new RecyclerView.ViewCacheExtension() {
+            @Nullable
+            @Override
+            public View getViewForPositionAndType(@NonNull RecyclerView.Recycler recycler, int position, int type) {
+                layoutManager.onPoolLookup();
+                return null;
+            }
+        });
+
         recyclerView.setLayoutManager(layoutManager);
+        updateLowPower();
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+
+        animator.attach();
+        viewHolderWarmer.start();
+
+        if (!memoryCallbacksRegistered) {
+            getContext().getApplicationContext().registerComponentCallbacks(memoryCallbacks);
+            memoryCallbacksRegistered = true;
+        }
+
+        if (!powerSaveReceiverRegistered && Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            getContext().getApplicationContext().registerReceiver(powerSaveReceiver, new IntentFilter(PowerManager.ACTION_POWER_SAVE_MODE_CHANGED));
+            powerSaveReceiverRegistered = true;
+        }
+
+        updateLowPower();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        animator.detach();
+
+        if (memoryCallbacksRegistered) {
+            getContext().getApplicationContext().unregisterComponentCallbacks(memoryCallbacks);
+            memoryCallbacksRegistered = false;
+        }
+
+        if (powerSaveReceiverRegistered) {
+            getContext().getApplicationContext().unregisterReceiver(powerSaveReceiver);
+            powerSaveReceiverRegistered = false;
+        }
+        removeCallbacks(snapshotRunnable);
+
+        if (flipProgressFramePosted) {
+            Choreographer.getInstance().removeFrameCallback(flipProgressFrameCallback);
+            flipProgressFramePosted = false;
+        }
+
+        super.onDetachedFromWindow();
+    }
+
+    // the recycler view and the animator both drive the state, listeners only see the combined one and only when it changes
+    private void dispatchScrollStateChanged() {
+        int newState = getScrollState();
+        if (newState == dispatchedScrollState) {
+            return;
+        }
+
+        dispatchedScrollState = newState;
+        if (newState == SCROLL_STATE_IDLE) {
+            scheduleSnapshot();
+        }
+
+        postFlipProgress();
+
+        onScrollStateChanged(newState);
+
+        for (OnScrollListener listener : onScrollListeners) {
+            listener.onScrollStateChanged(this, newState);
+        }
+    }
+
+    @Override
+    protected Parcelable onSaveInstanceState() {
+        captureSnapshot();
+
+        return super.onSaveInstanceState();
+    }
+
+    // with only the recycler view inside there is nothing for frame layout to resolve, measure it once and place it
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        if (getChildCount() != 1) {
+            super.onMeasure(widthMeasureSpec, heightMeasureSpec);
+            return;
+        }
+
+        int horizontalPadding = getPaddingLeft() + getPaddingRight();
+        int verticalPadding = getPaddingTop() + getPaddingBottom();
+        recyclerView.measure(
+                getChildMeasureSpec(widthMeasureSpec, horizontalPadding, LayoutParams.MATCH_PARENT),
+                getChildMeasureSpec(heightMeasureSpec, verticalPadding, LayoutParams.MATCH_PARENT));
+
+        setMeasuredDimension(
+                resolveSize(Math.max(recyclerView.getMeasuredWidth() + horizontalPadding, getSuggestedMinimumWidth()), widthMeasureSpec),
+                resolveSize(Math.max(recyclerView.getMeasuredHeight() + verticalPadding, getSuggestedMinimumHeight()), heightMeasureSpec));
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
+        if (getChildCount() != 1) {
+            super.onLayout(changed, left, top, right, bottom);
+            return;
+        }
+
+        recyclerView.layout(getPaddingLeft(), getPaddingTop(),
+                getPaddingLeft() + recyclerView.getMeasuredWidth(), getPaddingTop() + recyclerView.getMeasuredHeight());
+    }
+
+    @Override
+    protected void dispatchDraw(Canvas canvas) {
+        super.dispatchDraw(canvas);
+
+        if (snapshot == null) {
+            return;
+        }
+
+        if (recyclerView.getChildCount() > 0) {
+            snapshot = null;
+            return;
+        }
+
+        snapshotBounds.set(0, 0, getWidth(), getHeight());
+        canvas.drawBitmap(snapshot, null, snapshotBounds, snapshotPaint);
+    }
+
+    public FlipSnapshotCache getSnapshotCache() {
+        return snapshotCache;
+    }
+
+    public void setSnapshotCache(final FlipSnapshotCache cache) {
+        snapshotCache = cache;
+        snapshot = null;
+        lastSnapshotItemId = RecyclerView.NO_ID;
+
+        if (cache == null || recyclerView.getChildCount() > 0) {
+            return;
+        }
+
+        cache.loadLast(new FlipSnapshotCache.Callback() {
+            @Override
+            public void onSnapshotLoaded(Bitmap bitmap) {
+                if (snapshotCache != cache || recyclerView.getChildCount() > 0) {
+                    return;
+                }
+
+                snapshot = bitmap;
+                invalidate();
+            }
+        });
+    }
+
+    private void scheduleSnapshot() {
+        if (snapshotCache == null) {
+            return;
+        }
+
+        removeCallbacks(snapshotRunnable);
+        postDelayed(snapshotRunnable, SNAPSHOT_DELAY_MILLIS);
+    }
+
+    private final Runnable snapshotRunnable = new Runnable() {
+        @Override
+        public void run() {
+            captureSnapshot();
+        }
+    };
+
+    private void captureSnapshot() {
+        RecyclerView.Adapter adapter = recyclerView.getAdapter();
+        if (snapshotCache == null || adapter == null || !adapter.hasStableIds() || layoutManager.isScrolling()) {
+            return;
+        }
+
+        int position = layoutManager.getCurrentPosition();
+        View view = layoutManager.findViewByPosition(position);
+        if (view == null || view.getWidth() == 0 || view.getHeight() == 0) {
+            return;
+        }
+
+        Object bindMode = view.getTag(R.id.flip_view_bind_mode);
+        if (bindMode != null && (Integer) bindMode == BIND_MODE_PLACEHOLDER) {
+            scheduleSnapshot();
+            return;
+        }
+
+        // the page under the last snapshot hasn't changed, so there is nothing new to write
+        long itemId = adapter.getItemId(position);
+        if (itemId == lastSnapshotItemId) {
+            return;
+        }
+
+        Bitmap bitmap = snapshotCache.obtainBitmap(view.getWidth(), view.getHeight());
+        bitmap.eraseColor(Color.TRANSPARENT);
+        view.draw(new Canvas(bitmap));
+        snapshotCache.save(itemId, bitmap);
+        lastSnapshotItemId = itemId;
+    }
+
+    // Everything released here is rebuilt on demand by the next layout or flip. The tiers are:
+    //  RUNNING_MODERATE and RUNNING_LOW: the app is in the foreground, pooled and cached holders and display lists
+    //  go, prepared pages are trimmed to the most recently used ones. Pages on screen stay so a running flip
+    //  carries on without a jump, at rest only the current page is attached anyway.
+    //  RUNNING_CRITICAL: as above, but all prepared pages and pending preparation go too.
+    //  UI_HIDDEN and above: nothing is visible, so a running flip or settle also ends at its target right away
+    //  and only the current page stays attached.
+    public void trimMemory(int level) {
+        boolean background = level >= ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN;
+        if (level < ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE) {
+            return;
+        }
+
+        if (background && recyclerView.getScrollState() != SCROLL_STATE_DRAGGING && layoutManager.isScrolling()) {
+            int position = animator.isRunning() ? animator.getTargetPosition() : layoutManager.getCurrentPosition();
+            animator.stop();
+            recyclerView.stopScroll();
+            recyclerView.scrollToPosition(position);
+        }
+
+        recyclerView.setItemViewCacheSize(0);
+        recyclerView.getRecycledViewPool().clear();
+        recyclerView.setItemViewCacheSize(ITEM_VIEW_CACHE_SIZE);
+        recyclerView.releaseDisplayLists();
+
+        if (level < ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            layoutManager.getPreparedPages().trimTo(PageApproachPredictor.LOOKAHEAD);
+        } else {
+            layoutManager.getPreparedPages().clear();
+        }
     }
 
     public RecyclerView.Adapter getAdapter() {
@@ -91,17 +413,185 @@ public class FlipView extends FrameLayout {
 
     public void setAdapter(RecyclerView.Adapter adapter) {
         recyclerView.setAdapter(adapter);
+        lastSnapshotItemId = RecyclerView.NO_ID;
+        viewHolderWarmer.start();
+    }
+
+    public FlipRecyclerStats getRecyclerStats() {
+        return new FlipRecyclerStats(layoutManager.getStats());
+    }
+
+    public void resetRecyclerStats() {
+        layoutManager.getStats().reset();
+    }
+
+    public void setStrictScrapChecks(boolean strictScrapChecks) {
+        layoutManager.setStrictScrapChecks(strictScrapChecks);
+    }
+
+    // the adapter's onCreateViewHolder runs on a background thread for these, so it must be safe to call off the main thread
+    public void warmUp(int viewType, int count) {
+        viewHolderWarmer.request(viewType, count);
+    }
+
+    public void setWarmUpExecutor(Executor executor) {
+        viewHolderWarmer.setExecutor(executor);
+    }
+
+    public void setPagePreparer(PagePreparer<?> preparer) {
+        layoutManager.setPagePreparer(preparer);
+    }
+
+    public void setPagePreparerExecutor(ExecutorService executor) {
+        layoutManager.getPreparedPages().setExecutor(executor);
+    }
+
+    public void setPreparedPageCacheSize(int size) {
+        layoutManager.getPreparedPages().setMaxSize(size);
+    }
+
+    public int getPreparedPageCacheSize() {
+        return layoutManager.getPreparedPages().getMaxSize();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getPreparedPage(long itemId) {
+        return (T) layoutManager.getPreparedPages().get(itemId);
+    }
+
+    public RecyclerView.RecycledViewPool getRecycledViewPool() {
+        return recyclerView.getRecycledViewPool();
+    }
+
+    public void setRecycledViewPool(RecyclerView.RecycledViewPool pool) {
+        recyclerView.setRecycledViewPool(pool);
     }
 
     public int getScrollState() {
+        if (animator.isRunning()) {
+            return SCROLL_STATE_SETTLING;
+        }
+
         return recyclerView.getScrollState();
     }
 
+    public boolean isTileMode() {
+        return tileMode;
+    }
+
+    public void setTileMode(boolean tileMode) {
+        this.tileMode = tileMode;
+
+        recyclerView.setUseSharedRenderer(tileMode);
+        layoutManager.setAnimatorDrivesSmoothScroll(tileMode || lowPower);
+    }
+
+    public int getPowerPolicy() {
+        return powerPolicy;
+    }
+
+    public void setPowerPolicy(int powerPolicy) {
+        if (powerPolicy != POWER_POLICY_AUTO && powerPolicy != POWER_POLICY_NORMAL && powerPolicy != POWER_POLICY_SAVER) {
+            throw new IllegalArgumentException("unknown power policy: " + powerPolicy);
+        }
+
+        this.powerPolicy = powerPolicy;
+        updateLowPower();
+    }
+
+    public int getLowPowerFrameRate() {
+        return lowPowerFrameRate;
+    }
+
+    public void setLowPowerFrameRate(int framesPerSecond) {
+        if (framesPerSecond < 1) {
+            throw new IllegalArgumentException("frame rate can't be less then 1. frame rate is: " + framesPerSecond);
+        }
+
+        lowPowerFrameRate = framesPerSecond;
+        updateLowPower();
+    }
+
+    public boolean isLowPower() {
+        return lowPower;
+    }
+
+    // low power caps animation and drag updates, shortens settles by running them on the animator and drops lighting
+    private void updateLowPower() {
+        lowPower = powerPolicy == POWER_POLICY_SAVER || (powerPolicy == POWER_POLICY_AUTO && isPowerSaveMode());
+
+        // a quarter interval of slack so vsync jitter doesn't push a capped frame to the vsync after
+        long frameIntervalNanos = TimeUnit.SECONDS.toNanos(1) / lowPowerFrameRate;
+        long minFrameIntervalNanos = lowPower ? frameIntervalNanos - frameIntervalNanos / 4 : 0;
+        animator.setLowPower(lowPower, minFrameIntervalNanos);
+        recyclerView.setLowPower(lowPower, minFrameIntervalNanos);
+        layoutManager.setAnimatorDrivesSmoothScroll(tileMode || lowPower);
+    }
+
+    private boolean isPowerSaveMode() {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+            return false;
+        }
+
+        PowerManager powerManager = (PowerManager) getContext().getSystemService(Context.POWER_SERVICE);
+        return powerManager != null && powerManager.isPowerSaveMode();
+    }
+
+    public boolean isCoalesceTouchMoves() {
+        return recyclerView.isCoalesceTouchMoves();
+    }
+
+    public void setCoalesceTouchMoves(boolean coalesceTouchMoves) {
+        recyclerView.setCoalesceTouchMoves(coalesceTouchMoves);
+    }
+
+    public FlipRenderer getRenderer() {
+        return recyclerView.getRenderer();
+    }
+
+    public void setRenderer(FlipRenderer renderer) {
+        recyclerView.setRenderer(renderer);
+    }
+
+    public long getAutoFlipInterval() {
+        return animator.getAutoFlipInterval();
+    }
+
+    public void setAutoFlipInterval(long intervalMillis) {
+        animator.setAutoFlipInterval(intervalMillis);
+    }
+
+    public boolean flipNext() {
+        return animator.flipBy(1);
+    }
+
+    public boolean flipPrevious() {
+        return animator.flipBy(-1);
+    }
+
+    public int getFlipTargetPosition() {
+        return animator.getTargetPosition();
+    }
+
+    public int getMaxQueuedFlips() {
+        return animator.getMaxQueuedFlips();
+    }
+
+    public void setMaxQueuedFlips(int maxQueuedFlips) {
+        animator.setMaxQueuedFlips(maxQueuedFlips);
+    }
+
     public int getAngle() {
         return layoutManager.getAngle();
     }
 
+    // overflows past position 11,930,464, use getScrollDistanceLong() instead
+    @Deprecated
     public int getScrollDistance() {
+        return FlipDistance.clampToInt(layoutManager.getScrollDistance());
+    }
+
+    public long getScrollDistanceLong() {
         return layoutManager.getScrollDistance();
     }
 
@@ -125,6 +615,89 @@ public class FlipView extends FrameLayout {
         onPositionChangeListeners.clear();
     }
 
+    public void addOnPageApproachListener(OnPageApproachListener listener) {
+        if (listener == null) {
+            return;
+        }
+
+        onPageApproachListeners.add(listener);
+        if (onPageApproachListeners.size() == 1) {
+            layoutManager.setOnPageApproachListener(new FlipLayoutManager.OnPageApproachListener() {
+                @Override
+                public void onPageApproach(FlipLayoutManager flipLayoutManager, int position, int direction, long estimatedMillis) {
+                    for (OnPageApproachListener listener : onPageApproachListeners) {
+                        listener.onPageApproach(FlipView.this, position, direction, estimatedMillis);
+                    }
+                }
+            });
+        }
+    }
+
+    public void removeOnPageApproachListener(OnPageApproachListener listener) {
+        if (listener != null && onPageApproachListeners.remove(listener) && onPageApproachListeners.isEmpty()) {
+            layoutManager.setOnPageApproachListener(null);
+        }
+    }
+
+    public void clearOnPageApproachListeners() {
+        onPageApproachListeners.clear();
+        layoutManager.setOnPageApproachListener(null);
+    }
+
+    public void addOnFlipProgressListener(OnFlipProgressListener listener) {
+        if (listener != null) {
+            onFlipProgressListeners.add(listener);
+            flipProgressDispatch = onFlipProgressListeners.toArray(new OnFlipProgressListener[0]);
+        }
+    }
+
+    public void removeOnFlipProgressListener(OnFlipProgressListener listener) {
+        if (listener != null && onFlipProgressListeners.remove(listener)) {
+            flipProgressDispatch = onFlipProgressListeners.toArray(new OnFlipProgressListener[0]);
+        }
+    }
+
+    public void clearOnFlipProgressListeners() {
+        onFlipProgressListeners.clear();
+        flipProgressDispatch = new OnFlipProgressListener[0];
+    }
+
+    // progress is reported at most once per frame, from the frame after the scroll was laid out
+    private void postFlipProgress() {
+        if (flipProgressFramePosted || flipProgressDispatch.length == 0 || !isAttachedToWindow()) {
+            return;
+        }
+
+        flipProgressFramePosted = true;
+        Choreographer.getInstance().postFrameCallback(flipProgressFrameCallback);
+    }
+
+    private final Choreographer.FrameCallback flipProgressFrameCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            flipProgressFramePosted = false;
+
+            long distance = layoutManager.getScrollDistance();
+            int position = FlipDistance.toFloorPosition(distance);
+            float fraction = FlipDistance.toFraction(distance);
+
+            // overscroll past either end doesn't head toward a real page
+            int lastPosition = Math.max(0, layoutManager.getItemCount() - 1);
+            if (position < 0 || position >= lastPosition) {
+                position = Math.max(0, Math.min(lastPosition, position));
+                fraction = 0f;
+            }
+
+            int direction = layoutManager.getScrollVector();
+
+            // listeners may be added or removed while dispatching, so dispatch from a snapshot
+            final OnFlipProgressListener[] listeners = flipProgressDispatch;
+            for (int i = 0; i < listeners.length; i++) {
+                listeners[i].onFlipProgress(FlipView.this, position, fraction, direction);
+            }
+        }
+    };
+
     public void addOnScrollListener(OnScrollListener listener) {
         if (listener != null) {
             onScrollListeners.add(listener);
@@ -178,4 +751,17 @@ public class FlipView extends FrameLayout {
     public interface OnPositionChangeListener {
         void onPositionChange(FlipView flipView, int position);
     }
+
+    public interface OnFlipProgressListener {
+        void onFlipProgress(FlipView flipView, int position, float fraction, int direction);
+    }
+
+    public interface OnPageApproachListener {
+        void onPageApproach(FlipView flipView, int position, int direction, long estimatedMillis);
+    }
+
+    // called on a background thread, the result is handed to the bind of the page with that id
+    public interface PagePreparer<T> {
+        T preparePage(long itemId, int position);
+    }
 }
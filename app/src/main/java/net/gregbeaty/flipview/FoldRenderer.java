@@ -0,0 +1,54 @@
+package net.gregbeaty.flipview;
+
+import android.graphics.Canvas;
+import android.graphics.Rect;
+import android.view.View;
+
+public class FoldRenderer implements FlipRenderer {
+    private final Rect firstHalfRect = new Rect();
+    private final Rect secondHalfRect = new Rect();
+
+    @Override
+    public int getCostTier() {
+        return COST_TIER_MEDIUM;
+    }
+
+    @Override
+    public void draw(Canvas canvas, Frame frame) {
+        final int angle = frame.getAngle();
+        final boolean isVerticalScrolling = frame.isVertical();
+        final int width = frame.getWidth();
+        final int height = frame.getHeight();
+
+        HalfRects.set(firstHalfRect, secondHalfRect, width, height, isVerticalScrolling);
+
+        final View previousHalf = angle >= 90 ? frame.getPreviousView() : frame.getCurrentView();
+        if (previousHalf != null) {
+            canvas.save();
+            canvas.clipRect(firstHalfRect);
+            frame.drawPage(canvas, previousHalf);
+            canvas.restore();
+        }
+
+        final View nextHalf = angle >= 90 ? frame.getCurrentView() : frame.getNextView();
+        if (nextHalf != null) {
+            canvas.save();
+            canvas.clipRect(secondHalfRect);
+            frame.drawPage(canvas, nextHalf);
+            canvas.restore();
+        }
+
+        // squash the flipping half towards the fold instead of projecting a 3D rotation
+        final float scale = (float) Math.abs(Math.cos(Math.toRadians(angle)));
+        canvas.save();
+        canvas.clipRect(angle > 90 ? firstHalfRect : secondHalfRect);
+        if (isVerticalScrolling) {
+            canvas.scale(1, scale, width / 2f, height / 2f);
+        } else {
+            canvas.scale(scale, 1, width / 2f, height / 2f);
+        }
+
+        frame.drawPage(canvas, frame.getCurrentView());
+        canvas.restore();
+    }
+}
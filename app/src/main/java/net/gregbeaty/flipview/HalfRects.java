@@ -0,0 +1,18 @@
+package net.gregbeaty.flipview;
+
+import android.graphics.Rect;
+
+final class HalfRects {
+    private HalfRects() {
+    }
+
+    static void set(Rect firstHalf, Rect secondHalf, int width, int height, boolean vertical) {
+        if (vertical) {
+            firstHalf.set(0, 0, width, height / 2);
+            secondHalf.set(0, height / 2, width, height);
+        } else {
+            firstHalf.set(0, 0, width / 2, height);
+            secondHalf.set(width / 2, 0, width, height);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package net.gregbeaty.flipview;
+
+class PageApproachPredictor {
+    static final int NO_POSITION = -1;
+    static final long UNKNOWN_TIME = -1;
+    static final int LOOKAHEAD = 2;
+    private static final float VELOCITY_SMOOTHING = 0.5f;
+    private static final float MIN_SPEED_PER_MILLI = 0.001f;
+
+    private final Listener listener;
+    private boolean hasSample;
+    private long lastDistance;
+    private long lastTimeNanos;
+    private float velocity;
+    private int lastFirstPosition = NO_POSITION;
+    private int lastDirection;
+    private int lastTargetPosition = NO_POSITION;
+    private boolean lastVelocityKnown;
+
+    PageApproachPredictor(Listener listener) {
+        this.listener = listener;
+    }
+
+    void reset() {
+        hasSample = false;
+        velocity = 0;
+        lastFirstPosition = NO_POSITION;
+        lastDirection = 0;
+        lastTargetPosition = NO_POSITION;
+        lastVelocityKnown = false;
+    }
+
+    float getVelocity() {
+        return velocity;
+    }
+
+    void update(long distance, long timeNanos, int scrollVector, int targetPosition, int itemCount) {
+        updateVelocity(distance, timeNanos);
+
+        int direction = getDirection(distance, scrollVector, targetPosition);
+        if (direction == 0) {
+            return;
+        }
+
+        // pages already on their way into view are the one just past the current fold
+        int firstPosition = direction > 0
+                ? FlipDistance.toPosition(distance - FlipDistance.PER_POSITION / 2) + 1
+                : FlipDistance.toPosition(distance + FlipDistance.PER_POSITION / 2 - 1) - 1;
+
+        boolean velocityKnown = isVelocityKnown(direction);
+        if (firstPosition == lastFirstPosition && direction == lastDirection
+                && targetPosition == lastTargetPosition && velocityKnown == lastVelocityKnown) {
+            return;
+        }
+
+        lastFirstPosition = firstPosition;
+        lastDirection = direction;
+        lastTargetPosition = targetPosition;
+        lastVelocityKnown = velocityKnown;
+
+        for (int i = 0; i < LOOKAHEAD; i++) {
+            int position = firstPosition + i * direction;
+            if (!isReachable(position, direction, targetPosition, itemCount)) {
+                break;
+            }
+
+            listener.onPageApproach(position, direction, estimateMillisUntilVisible(position, distance, direction));
+        }
+
+        int lastLookahead = firstPosition + (LOOKAHEAD - 1) * direction;
+        if (targetPosition != NO_POSITION && (targetPosition - lastLookahead) * direction > 0 && targetPosition < itemCount) {
+            listener.onPageApproach(targetPosition, direction, estimateMillisUntilVisible(targetPosition, distance, direction));
+        }
+    }
+
+    long estimateMillisUntilVisible(int position, long distance, int direction) {
+        long visibleFrom = direction > 0
+                ? FlipDistance.forPosition(position - 1)
+                : FlipDistance.forPosition(position + 1);
+
+        long remaining = (visibleFrom - distance) * direction;
+        if (remaining <= 0) {
+            return 0;
+        }
+
+        if (!isVelocityKnown(direction)) {
+            return UNKNOWN_TIME;
+        }
+
+        return (long) (remaining / Math.abs(velocity));
+    }
+
+    private boolean isVelocityKnown(int direction) {
+        return Math.abs(velocity) >= MIN_SPEED_PER_MILLI && Math.signum(velocity) == direction;
+    }
+
+    private void updateVelocity(long distance, long timeNanos) {
+        if (hasSample && timeNanos > lastTimeNanos) {
+            float elapsedMillis = (timeNanos - lastTimeNanos) / 1_000_000f;
+            float sample = (distance - lastDistance) / elapsedMillis;
+            velocity = velocity == 0 ? sample : velocity + (sample - velocity) * VELOCITY_SMOOTHING;
+        }
+
+        hasSample = true;
+        lastDistance = distance;
+        lastTimeNanos = timeNanos;
+    }
+
+    private int getDirection(long distance, int scrollVector, int targetPosition) {
+        if (targetPosition != NO_POSITION) {
+            return Long.signum(FlipDistance.forPosition(targetPosition) - distance);
+        }
+
+        if (Math.abs(velocity) >= MIN_SPEED_PER_MILLI) {
+            return velocity > 0 ? 1 : -1;
+        }
+
+        return scrollVector;
+    }
+
+    private static boolean isReachable(int position, int direction, int targetPosition, int itemCount) {
+        if (position < 0 || position >= itemCount) {
+            return false;
+        }
+
+        return targetPosition == NO_POSITION || (targetPosition - position) * direction >= 0;
+    }
+
+    interface Listener {
+        void onPageApproach(int position, int direction, long estimatedMillis);
+    }
+}
@@ -0,0 +1,60 @@
+package net.gregbeaty.flipview;
+
+import android.graphics.Canvas;
+import android.graphics.Picture;
+import android.os.Build;
+import android.view.View;
+
+class PageDisplayList {
+    private Picture picture;
+    private View view;
+    private long recordedPass = -1;
+    private long usedPass = -1;
+
+    View getView() {
+        return view;
+    }
+
+    long getUsedPass() {
+        return usedPass;
+    }
+
+    void draw(Canvas canvas, View page, long pass) {
+        if (page != view || picture == null || (pass != recordedPass && isDirty(page))) {
+            record(page, pass);
+        }
+
+        usedPass = pass;
+
+        canvas.save();
+        canvas.translate(page.getLeft(), page.getTop());
+        canvas.clipRect(0, 0, page.getWidth(), page.getHeight());
+        canvas.drawPicture(picture);
+        canvas.restore();
+    }
+
+    void release() {
+        picture = null;
+        view = null;
+        recordedPass = -1;
+        usedPass = -1;
+    }
+
+    private void record(View page, long pass) {
+        if (picture == null) {
+            picture = new Picture();
+        }
+
+        Canvas recordingCanvas = picture.beginRecording(page.getWidth(), page.getHeight());
+        page.draw(recordingCanvas);
+        picture.endRecording();
+
+        view = page;
+        recordedPass = pass;
+    }
+
+    private static boolean isDirty(View page) {
+        // View.isDirty() is only available from API 21, so re-record every pass below that
+        return Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP || page.isDirty();
+    }
+}
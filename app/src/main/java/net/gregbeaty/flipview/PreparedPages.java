@@ -0,0 +1,156 @@
+package net.gregbeaty.flipview;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.LruCache;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import timber.log.Timber;
+
+class PreparedPages {
+    static final int DEFAULT_MAX_SIZE = 2 * PageApproachPredictor.LOOKAHEAD + 1;
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Map<Long, Task> pending = new HashMap<>();
+    private final LruCache<Long, Object> prepared = new LruCache<>(DEFAULT_MAX_SIZE);
+    private FlipView.PagePreparer<?> preparer;
+    private ExecutorService executor;
+    private int direction;
+
+    void setPreparer(FlipView.PagePreparer<?> preparer) {
+        this.preparer = preparer;
+        clear();
+    }
+
+    boolean hasPreparer() {
+        return preparer != null;
+    }
+
+    void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    void setMaxSize(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("max size can't be less then 1. max size is: " + maxSize);
+        }
+
+        prepared.resize(maxSize);
+    }
+
+    int getMaxSize() {
+        return prepared.maxSize();
+    }
+
+    Object get(long id) {
+        return prepared.get(id);
+    }
+
+    int size() {
+        return prepared.size();
+    }
+
+    void prepare(RecyclerView.Adapter adapter, int position, int direction) {
+        if (preparer == null || adapter == null || !adapter.hasStableIds()
+                || position < 0 || position >= adapter.getItemCount()) {
+            return;
+        }
+
+        // pages queued for the other direction won't be shown before the new ones
+        if (direction != 0 && direction != this.direction) {
+            cancel(-direction);
+            this.direction = direction;
+        }
+
+        long id = adapter.getItemId(position);
+        if (id == RecyclerView.NO_ID || pending.containsKey(id) || prepared.get(id) != null) {
+            return;
+        }
+
+        Task task = new Task(preparer, id, position, direction);
+        pending.put(id, task);
+
+        ExecutorService executor = this.executor != null ? this.executor : FlipExecutors.background();
+        task.future = executor.submit(task);
+    }
+
+    void invalidate(long id) {
+        prepared.remove(id);
+
+        Task task = pending.remove(id);
+        if (task != null) {
+            task.future.cancel(false);
+        }
+    }
+
+    void clear() {
+        cancel(0);
+        prepared.evictAll();
+        direction = 0;
+    }
+
+    void trimTo(int size) {
+        prepared.trimToSize(size);
+    }
+
+    private void cancel(int direction) {
+        Iterator<Task> iterator = pending.values().iterator();
+        while (iterator.hasNext()) {
+            Task task = iterator.next();
+            if (direction == 0 || task.direction == direction) {
+                task.future.cancel(false);
+                iterator.remove();
+            }
+        }
+    }
+
+    private void deliver(Task task, Object result) {
+        if (pending.get(task.id) != task) {
+            return;
+        }
+
+        pending.remove(task.id);
+        if (result != null) {
+            prepared.put(task.id, result);
+        }
+    }
+
+    private class Task implements Runnable {
+        private final FlipView.PagePreparer<?> preparer;
+        private final long id;
+        private final int position;
+        private final int direction;
+        private Future<?> future;
+
+        Task(FlipView.PagePreparer<?> preparer, long id, int position, int direction) {
+            this.preparer = preparer;
+            this.id = id;
+            this.position = position;
+            this.direction = direction;
+        }
+
+        @Override
+        public void run() {
+            Object result = null;
+            try {
+                result = preparer.preparePage(id, position);
+            } catch (RuntimeException e) {
+                Timber.w(e, "preparePage failed for %d", id);
+            }
+
+            final Object delivered = result;
+            mainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    deliver(Task.this, delivered);
+                }
+            });
+        }
+    }
+}
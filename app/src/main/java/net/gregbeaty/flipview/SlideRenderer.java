@@ -0,0 +1,36 @@
+package net.gregbeaty.flipview;
+
+import android.graphics.Canvas;
+import android.view.View;
+
+public class SlideRenderer implements FlipRenderer {
+    @Override
+    public int getCostTier() {
+        return COST_TIER_LOW;
+    }
+
+    @Override
+    public void draw(Canvas canvas, Frame frame) {
+        final View fromView = frame.getFromView();
+        final View toView = frame.getToView();
+
+        if (fromView != null) {
+            frame.drawPage(canvas, fromView);
+        }
+
+        if (toView == null) {
+            return;
+        }
+
+        final float remaining = 1 - frame.getProgress();
+        canvas.save();
+        if (frame.isVertical()) {
+            canvas.translate(0, remaining * frame.getHeight());
+        } else {
+            canvas.translate(remaining * frame.getWidth(), 0);
+        }
+
+        frame.drawPage(canvas, toView);
+        canvas.restore();
+    }
+}
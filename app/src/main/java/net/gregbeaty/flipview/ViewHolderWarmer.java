@@ -0,0 +1,83 @@
+package net.gregbeaty.flipview;
+
+import android.util.SparseIntArray;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.concurrent.Executor;
+
+import timber.log.Timber;
+
+class ViewHolderWarmer {
+    private static final int DEFAULT_MAX_SCRAP = 5;
+
+    private final RecyclerView recyclerView;
+    private final FlipRecyclerStats stats;
+    private final SparseIntArray requests = new SparseIntArray();
+    private Executor executor;
+    private RecyclerView.Adapter warmedAdapter;
+
+    ViewHolderWarmer(RecyclerView recyclerView, FlipRecyclerStats stats) {
+        this.recyclerView = recyclerView;
+        this.stats = stats;
+    }
+
+    void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    void request(int viewType, int count) {
+        if (count <= 0) {
+            return;
+        }
+
+        requests.put(viewType, Math.max(count, requests.get(viewType)));
+        warmedAdapter = null;
+        start();
+    }
+
+    void start() {
+        final RecyclerView.Adapter adapter = recyclerView.getAdapter();
+        if (adapter == null || adapter == warmedAdapter || requests.size() == 0 || !recyclerView.isAttachedToWindow()) {
+            return;
+        }
+
+        warmedAdapter = adapter;
+
+        Executor executor = this.executor != null ? this.executor : FlipExecutors.background();
+        for (int i = 0; i < requests.size(); i++) {
+            final int viewType = requests.keyAt(i);
+            final int count = requests.valueAt(i);
+
+            final RecyclerView.RecycledViewPool pool = recyclerView.getRecycledViewPool();
+            pool.setMaxRecycledViews(viewType, Math.max(DEFAULT_MAX_SCRAP, count));
+
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    for (int created = 0; created < count; created++) {
+                        if (recyclerView.getAdapter() != adapter) {
+                            return;
+                        }
+
+                        final RecyclerView.ViewHolder holder = adapter.createViewHolder(recyclerView, viewType);
+                        recyclerView.post(new Runnable() {
+                            @Override
+                            public void run() {
+                                if (recyclerView.getAdapter() != adapter
+                                        || recyclerView.getRecycledViewPool().getRecycledViewCount(viewType) >= count) {
+                                    return;
+                                }
+
+                                holder.itemView.setTag(R.id.flip_view_holder_counted, Boolean.TRUE);
+                                stats.onCreate();
+                                recyclerView.getRecycledViewPool().putRecycledView(holder);
+                            }
+                        });
+                    }
+
+                    Timber.d("warmUp: created %d holders of type %d", count, viewType);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package net.gregbeaty.flipview;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class FlipDistanceTest {
+    private static final int OVERFLOW_POSITION = Integer.MAX_VALUE / FlipDistance.PER_POSITION + 1;
+
+    @Test
+    public void toPosition_roundsHalfUp() throws Exception {
+        assertEquals(0, FlipDistance.toPosition(0));
+        assertEquals(0, FlipDistance.toPosition(89));
+        assertEquals(1, FlipDistance.toPosition(90));
+        assertEquals(1, FlipDistance.toPosition(269));
+        assertEquals(2, FlipDistance.toPosition(270));
+    }
+
+    @Test
+    public void toPosition_handlesOverScroll() throws Exception {
+        assertEquals(0, FlipDistance.toPosition(-70));
+        assertEquals(0, FlipDistance.toPosition(-90));
+        assertEquals(-1, FlipDistance.toPosition(-91));
+    }
+
+    @Test
+    public void toAngle_isAlwaysPositive() throws Exception {
+        assertEquals(0, FlipDistance.toAngle(0));
+        assertEquals(45, FlipDistance.toAngle(225));
+        assertEquals(110, FlipDistance.toAngle(-70));
+    }
+
+    @Test
+    public void toFloorPositionAndFraction_describeProgressTowardsNextPage() throws Exception {
+        assertEquals(5, FlipDistance.toFloorPosition(5 * FlipDistance.PER_POSITION + 135));
+        assertEquals(0.75f, FlipDistance.toFraction(5 * FlipDistance.PER_POSITION + 135), 0f);
+        assertEquals(-1, FlipDistance.toFloorPosition(-45));
+        assertEquals(0.75f, FlipDistance.toFraction(-45), 0f);
+    }
+
+    @Test
+    public void forPosition_doesNotOverflowPastIntegerRange() throws Exception {
+        long distance = FlipDistance.forPosition(OVERFLOW_POSITION);
+
+        assertEquals((long) OVERFLOW_POSITION * FlipDistance.PER_POSITION, distance);
+        assertEquals(OVERFLOW_POSITION, FlipDistance.toPosition(distance));
+        assertEquals(0, FlipDistance.toAngle(distance));
+    }
+
+    @Test
+    public void positionAndAngle_areExactAroundIntegerMaxValue() throws Exception {
+        long distance = Integer.MAX_VALUE;
+
+        assertEquals(Integer.MAX_VALUE % FlipDistance.PER_POSITION, FlipDistance.toAngle(distance));
+        assertEquals(FlipDistance.toPosition(distance - FlipDistance.toAngle(distance)) + 1, FlipDistance.toPosition(distance));
+        assertEquals(FlipDistance.toAngle(distance) + 1, FlipDistance.toAngle(distance + 1));
+    }
+
+    @Test
+    public void maxDistance_coversLargestAdapter() throws Exception {
+        assertEquals(0, FlipDistance.maxDistance(0));
+        assertEquals(0, FlipDistance.maxDistance(1));
+        assertEquals((long) (Integer.MAX_VALUE - 1) * FlipDistance.PER_POSITION, FlipDistance.maxDistance(Integer.MAX_VALUE));
+        assertEquals(Integer.MAX_VALUE - 1, FlipDistance.toPosition(FlipDistance.maxDistance(Integer.MAX_VALUE)));
+    }
+
+    @Test
+    public void clampToInt_saturates() throws Exception {
+        assertEquals(Integer.MAX_VALUE, FlipDistance.clampToInt(Long.MAX_VALUE));
+        assertEquals(Integer.MIN_VALUE, FlipDistance.clampToInt(Long.MIN_VALUE));
+        assertEquals(-5, FlipDistance.clampToInt(-5));
+    }
+}
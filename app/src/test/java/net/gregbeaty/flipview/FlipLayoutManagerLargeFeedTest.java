@@ -0,0 +1,93 @@
+package net.gregbeaty.flipview;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class FlipLayoutManagerLargeFeedTest {
+    private static final int ITEM_COUNT = 12000000;
+    // the first position whose distance doesn't fit in an int
+    private static final int LARGE_POSITION = 11930465;
+
+    private FlipView view;
+    private RecyclerView recyclerView;
+    private FlipLayoutManager layoutManager;
+
+    @Before
+    public void setUp() throws Exception {
+        view = new FlipView(RuntimeEnvironment.application);
+        view.setAdapter(new CountAdapter(ITEM_COUNT));
+        TestLayouts.layout(view);
+
+        recyclerView = (RecyclerView) view.getChildAt(0);
+        layoutManager = (FlipLayoutManager) recyclerView.getLayoutManager();
+    }
+
+    @Test
+    public void scrollToPosition_pastIntDistance_keepsPosition() throws Exception {
+        view.scrollToPosition(LARGE_POSITION);
+        TestLayouts.layout(view);
+
+        assertEquals(LARGE_POSITION, layoutManager.getCurrentPosition());
+        assertEquals(FlipDistance.forPosition(LARGE_POSITION), layoutManager.getScrollDistance());
+        assertEquals(FlipDistance.forPosition(LARGE_POSITION), view.getScrollDistanceLong());
+        assertEquals(Integer.MAX_VALUE, view.getScrollDistance());
+    }
+
+    @Test
+    public void scrollBy_pastIntDistance_movesForward() throws Exception {
+        view.scrollToPosition(LARGE_POSITION - 1);
+        TestLayouts.layout(view);
+
+        recyclerView.scrollBy(0, 100);
+
+        assertEquals(LARGE_POSITION, layoutManager.getCurrentPosition());
+        assertEquals(FlipDistance.forPosition(LARGE_POSITION - 1) + 100, layoutManager.getScrollDistance());
+        assertEquals(100, layoutManager.getAngle());
+    }
+
+    private static class CountAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+        private final int itemCount;
+
+        CountAdapter(int itemCount) {
+            this.itemCount = itemCount;
+            setHasStableIds(true);
+        }
+
+        @NonNull
+        @Override
+        public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+            View view = new View(parent.getContext());
+            view.setLayoutParams(new RecyclerView.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
+            return new RecyclerView.ViewHolder(view) {
+            };
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
+        }
+
+        @Override
+        public long getItemId(int position) {
+            return position;
+        }
+
+        @Override
+        public int getItemCount() {
+            return itemCount;
+        }
+    }
+}
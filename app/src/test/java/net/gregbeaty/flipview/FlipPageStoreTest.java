@@ -0,0 +1,87 @@
+package net.gregbeaty.flipview;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class FlipPageStoreTest {
+    @Test
+    public void add_growsPastInitialCapacity() throws Exception {
+        FlipPageStore store = new FlipPageStore(2);
+        for (int i = 0; i < 100; i++) {
+            store.add(i + 1000, i);
+        }
+
+        assertEquals(100, store.size());
+        assertEquals(1000, store.getId(0));
+        assertEquals(1099, store.getId(99));
+        assertEquals(99, store.getValue(99));
+    }
+
+    @Test
+    public void insert_shiftsFollowingPages() throws Exception {
+        FlipPageStore store = new FlipPageStore();
+        store.add(1, 10);
+        store.add(4, 40);
+        store.insert(1, new long[]{2, 3}, new int[]{20, 30});
+
+        assertEquals(4, store.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i + 1, store.getId(i));
+            assertEquals((i + 1) * 10, store.getValue(i));
+        }
+    }
+
+    @Test
+    public void insert_withoutValuesDefaultsToZero() throws Exception {
+        FlipPageStore store = new FlipPageStore();
+        store.add(1, 10);
+        store.insert(0, new long[]{5, 6}, null);
+
+        assertEquals(0, store.getValue(0));
+        assertEquals(0, store.getValue(1));
+        assertEquals(10, store.getValue(2));
+    }
+
+    @Test
+    public void remove_closesGap() throws Exception {
+        FlipPageStore store = new FlipPageStore();
+        for (int i = 0; i < 6; i++) {
+            store.add(i, i);
+        }
+
+        store.remove(1, 3);
+
+        assertEquals(3, store.size());
+        assertEquals(0, store.getId(0));
+        assertEquals(4, store.getId(1));
+        assertEquals(5, store.getId(2));
+        assertEquals(-1, store.indexOfId(2));
+        assertEquals(2, store.indexOfId(5));
+    }
+
+    @Test
+    public void trimToSize_keepsContents() throws Exception {
+        FlipPageStore store = new FlipPageStore(64);
+        store.add(7, 70);
+        store.trimToSize();
+        store.add(8, 80);
+
+        assertEquals(2, store.size());
+        assertEquals(8, store.getId(1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getId_rejectsPositionPastSize() throws Exception {
+        FlipPageStore store = new FlipPageStore(8);
+        store.add(1, 1);
+        store.getId(1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void remove_rejectsRangePastSize() throws Exception {
+        FlipPageStore store = new FlipPageStore();
+        store.add(1, 1);
+        store.remove(0, 2);
+    }
+}
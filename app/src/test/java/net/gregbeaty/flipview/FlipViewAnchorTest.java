@@ -0,0 +1,89 @@
+package net.gregbeaty.flipview;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class FlipViewAnchorTest {
+    private FlipView view;
+    private FlipPageStore pages;
+    private TestPageAdapter adapter;
+
+    @Before
+    public void setUp() throws Exception {
+        view = new FlipView(RuntimeEnvironment.application);
+        pages = new FlipPageStore();
+        adapter = new TestPageAdapter(pages, 10);
+        view.setAdapter(adapter);
+        TestLayouts.layout(view);
+
+        view.scrollToPosition(5);
+        TestLayouts.layout(view);
+    }
+
+    @Test
+    public void insertBeforeCurrentPage_keepsCurrentPage() throws Exception {
+        adapter.insertPages(0, new long[]{100, 101}, new int[]{0, 0});
+        TestLayouts.layout(view);
+
+        assertEquals(7, view.getPosition());
+        assertEquals(5, adapter.getPageId(view.getPosition()));
+    }
+
+    @Test
+    public void insertAfterCurrentPage_keepsPosition() throws Exception {
+        adapter.insertPage(6, 100, 0);
+        TestLayouts.layout(view);
+
+        assertEquals(5, view.getPosition());
+        assertEquals(5, adapter.getPageId(view.getPosition()));
+    }
+
+    @Test
+    public void moveCurrentPage_followsPage() throws Exception {
+        adapter.movePage(5, 2);
+        TestLayouts.layout(view);
+
+        assertEquals(2, view.getPosition());
+        assertEquals(5, adapter.getPageId(view.getPosition()));
+    }
+
+    @Test
+    public void movePageAcrossCurrentPage_keepsCurrentPage() throws Exception {
+        adapter.movePage(1, 8);
+        TestLayouts.layout(view);
+
+        assertEquals(4, view.getPosition());
+        assertEquals(5, adapter.getPageId(view.getPosition()));
+    }
+
+    @Test
+    public void dataSetChangedWithReorderedPages_keepsCurrentPage() throws Exception {
+        pages.clear();
+        for (int i = 9; i >= 0; i--) {
+            pages.add(i, i);
+        }
+        adapter.notifyDataSetChanged();
+        TestLayouts.layout(view);
+
+        assertEquals(4, view.getPosition());
+        assertEquals(5, adapter.getPageId(view.getPosition()));
+    }
+
+    @Test
+    public void dataSetChangedWithoutAnchor_keepsPosition() throws Exception {
+        pages.remove(5, 1);
+        adapter.notifyDataSetChanged();
+        TestLayouts.layout(view);
+
+        assertEquals(5, view.getPosition());
+        assertEquals(6, adapter.getPageId(view.getPosition()));
+    }
+}
@@ -0,0 +1,76 @@
+package net.gregbeaty.flipview;
+
+import android.app.Activity;
+import android.os.SystemClock;
+import android.view.MotionEvent;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class FlipViewDragAfterAnimationTest {
+    private static final long FRAME_MILLIS = 16;
+    private static final int MAX_FRAMES = 200;
+    private static final int DRAG_STEPS = 10;
+
+    private FlipView view;
+
+    @Before
+    public void setUp() throws Exception {
+        Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+        view = new FlipView(activity);
+        view.setAdapter(new TestPageAdapter(10));
+        view.setCoalesceTouchMoves(false);
+        activity.setContentView(view);
+        runFrames(1);
+    }
+
+    @Test
+    public void drag_afterFlipNext_scrollsForward() throws Exception {
+        assertTrue(view.flipNext());
+        for (int i = 0; i < MAX_FRAMES && view.getScrollState() != FlipView.SCROLL_STATE_IDLE; i++) {
+            runFrames(1);
+        }
+
+        assertEquals(FlipView.SCROLL_STATE_IDLE, view.getScrollState());
+        assertEquals(1, view.getPosition());
+
+        long downTime = SystemClock.uptimeMillis();
+        float x = view.getWidth() / 2f;
+        float startY = view.getHeight() * 3 / 4f;
+        float endY = view.getHeight() / 4f;
+
+        dispatch(downTime, MotionEvent.ACTION_DOWN, x, startY);
+        for (int i = 1; i <= DRAG_STEPS; i++) {
+            dispatch(downTime, MotionEvent.ACTION_MOVE, x, startY + (endY - startY) * i / DRAG_STEPS);
+        }
+
+        assertEquals(FlipView.SCROLL_STATE_DRAGGING, view.getScrollState());
+        assertTrue(view.getScrollDistanceLong() > FlipDistance.forPosition(1));
+
+        dispatch(downTime, MotionEvent.ACTION_UP, x, endY);
+    }
+
+    private void dispatch(long downTime, int action, float x, float y) {
+        MotionEvent event = MotionEvent.obtain(downTime, SystemClock.uptimeMillis(), action, x, y, 0);
+        view.dispatchTouchEvent(event);
+        event.recycle();
+    }
+
+    private static void runFrames(int frames) {
+        for (int i = 0; i < frames; i++) {
+            ShadowLooper.idleMainLooper(FRAME_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package net.gregbeaty.flipview;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.Intent;
+import android.os.PowerManager;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class FlipViewPowerPolicyTest {
+    private FlipView view;
+    private PowerManager powerManager;
+
+    @Before
+    public void setUp() throws Exception {
+        powerManager = (PowerManager) RuntimeEnvironment.application.getSystemService(Context.POWER_SERVICE);
+
+        Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+        view = new FlipView(activity);
+        view.setAdapter(new TestPageAdapter(10));
+        activity.setContentView(view);
+        ShadowLooper.idleMainLooper();
+    }
+
+    @Test
+    public void auto_followsPowerSaveMode() throws Exception {
+        assertFalse(view.isLowPower());
+
+        setPowerSaveMode(true);
+        assertTrue(view.isLowPower());
+
+        setPowerSaveMode(false);
+        assertFalse(view.isLowPower());
+    }
+
+    @Test
+    public void normal_ignoresPowerSaveMode() throws Exception {
+        view.setPowerPolicy(FlipView.POWER_POLICY_NORMAL);
+
+        setPowerSaveMode(true);
+        assertFalse(view.isLowPower());
+    }
+
+    @Test
+    public void saver_isLowPowerWithoutPowerSaveMode() throws Exception {
+        view.setPowerPolicy(FlipView.POWER_POLICY_SAVER);
+
+        assertTrue(view.isLowPower());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setPowerPolicy_unknown_throws() throws Exception {
+        view.setPowerPolicy(3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setLowPowerFrameRate_lessThanOne_throws() throws Exception {
+        view.setLowPowerFrameRate(0);
+    }
+
+    private void setPowerSaveMode(boolean powerSaveMode) {
+        shadowOf(powerManager).setIsPowerSaveMode(powerSaveMode);
+        RuntimeEnvironment.application.sendBroadcast(new Intent(PowerManager.ACTION_POWER_SAVE_MODE_CHANGED));
+        ShadowLooper.idleMainLooper();
+    }
+}
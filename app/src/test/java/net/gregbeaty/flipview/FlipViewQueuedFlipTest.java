@@ -0,0 +1,89 @@
+package net.gregbeaty.flipview;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class FlipViewQueuedFlipTest {
+    private FlipView view;
+
+    @Before
+    public void setUp() throws Exception {
+        view = new FlipView(RuntimeEnvironment.application);
+        view.setAdapter(new TestPageAdapter(10));
+        TestLayouts.layout(view);
+    }
+
+    @Test
+    public void flipNext_extendsRunningTarget() throws Exception {
+        assertTrue(view.flipNext());
+        assertEquals(1, view.getFlipTargetPosition());
+        assertEquals(FlipView.SCROLL_STATE_SETTLING, view.getScrollState());
+
+        assertTrue(view.flipNext());
+        assertEquals(2, view.getFlipTargetPosition());
+        assertEquals(0, view.getPosition());
+    }
+
+    @Test
+    public void flipPrevious_cancelsQueuedTurn() throws Exception {
+        view.flipNext();
+        view.flipNext();
+
+        assertTrue(view.flipPrevious());
+        assertEquals(1, view.getFlipTargetPosition());
+    }
+
+    @Test
+    public void flipNext_stopsAtMaxQueuedFlips() throws Exception {
+        view.setMaxQueuedFlips(2);
+
+        assertTrue(view.flipNext());
+        assertTrue(view.flipNext());
+        assertFalse(view.flipNext());
+        assertEquals(2, view.getFlipTargetPosition());
+    }
+
+    @Test
+    public void flipNext_afterLongSmoothScroll_extendsTarget() throws Exception {
+        view.setTileMode(true);
+        view.smoothScrollToPosition(8);
+        assertEquals(8, view.getFlipTargetPosition());
+
+        assertTrue(view.flipNext());
+        assertEquals(9, view.getFlipTargetPosition());
+
+        assertTrue(view.flipPrevious());
+        assertTrue(view.flipPrevious());
+        assertEquals(7, view.getFlipTargetPosition());
+    }
+
+    @Test
+    public void flipPrevious_onFirstPage_returnsFalse() throws Exception {
+        assertFalse(view.flipPrevious());
+        assertEquals(FlipView.NO_POSITION, view.getFlipTargetPosition());
+        assertEquals(FlipView.SCROLL_STATE_IDLE, view.getScrollState());
+    }
+
+    @Test
+    public void flipNext_onLastPage_returnsFalse() throws Exception {
+        view.scrollToPosition(9);
+        TestLayouts.layout(view);
+
+        assertFalse(view.flipNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setMaxQueuedFlips_lessThanOne_throws() throws Exception {
+        view.setMaxQueuedFlips(0);
+    }
+}
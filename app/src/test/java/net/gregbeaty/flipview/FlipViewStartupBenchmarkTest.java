@@ -0,0 +1,77 @@
+package net.gregbeaty.flipview;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.view.View;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+// reports construction to first frame timings for comparing changes, Robolectric timings are too noisy to assert a bound on
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class FlipViewStartupBenchmarkTest {
+    private static final int WARM_UP_VIEWS = 5;
+    private static final int MEASURED_VIEWS = 50;
+
+    @Test
+    public void construct_hasSingleRecyclerChild() throws Exception {
+        FlipView view = new FlipView(RuntimeEnvironment.application);
+
+        assertEquals(1, view.getChildCount());
+        assertSame(view.findViewById(R.id.flip_view_recycler_view), view.getChildAt(0));
+    }
+
+    @Test
+    public void constructToFirstFrame_laysOutCurrentPage() throws Exception {
+        Context context = RuntimeEnvironment.application;
+        Canvas canvas = new Canvas(Bitmap.createBitmap(TestLayouts.WIDTH, TestLayouts.HEIGHT, Bitmap.Config.ARGB_8888));
+
+        for (int i = 0; i < WARM_UP_VIEWS; i++) {
+            firstFrame(context, canvas);
+        }
+
+        long constructNanos = 0;
+        long frameNanos = 0;
+        for (int i = 0; i < MEASURED_VIEWS; i++) {
+            long start = System.nanoTime();
+            FlipView view = new FlipView(context);
+            view.setAdapter(new TestPageAdapter(10));
+            long constructed = System.nanoTime();
+            drawFrame(view, canvas);
+            long drawn = System.nanoTime();
+
+            constructNanos += constructed - start;
+            frameNanos += drawn - constructed;
+
+            View recyclerView = view.getChildAt(0);
+            assertEquals(TestLayouts.WIDTH, recyclerView.getWidth());
+            assertEquals(TestLayouts.HEIGHT, recyclerView.getHeight());
+            assertEquals(1, ((FlipRecyclerView) recyclerView).getChildCount());
+        }
+
+        System.out.println(String.format(Locale.US, "FlipView startup: construct %.3f ms, first frame %.3f ms, total %.3f ms per view",
+                constructNanos / 1e6 / MEASURED_VIEWS, frameNanos / 1e6 / MEASURED_VIEWS,
+                (constructNanos + frameNanos) / 1e6 / MEASURED_VIEWS));
+    }
+
+    private static void firstFrame(Context context, Canvas canvas) {
+        FlipView view = new FlipView(context);
+        view.setAdapter(new TestPageAdapter(10));
+        drawFrame(view, canvas);
+    }
+
+    private static void drawFrame(FlipView view, Canvas canvas) {
+        TestLayouts.layout(view);
+        view.draw(canvas);
+    }
+}
@@ -0,0 +1,107 @@
+package net.gregbeaty.flipview;
+
+import android.app.Activity;
+import android.os.SystemClock;
+import android.view.MotionEvent;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class FlipViewTouchCoalescingTest {
+    private static final long FRAME_MILLIS = 16;
+    private static final int MOVE_STEP = 20;
+
+    private final List<Integer> scrolls = new ArrayList<>();
+    private FlipView view;
+    private long downTime;
+    private float x;
+    private float y;
+
+    @Before
+    public void setUp() throws Exception {
+        Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+        view = new FlipView(activity);
+        view.setAdapter(new TestPageAdapter(10));
+        view.setCoalesceTouchMoves(true);
+        activity.setContentView(view);
+        runFrames(1);
+
+        view.addOnScrollListener(new FlipView.OnScrollListener() {
+            @Override
+            public void onScrolled(FlipView flipView, int dx, int dy) {
+                scrolls.add(dy);
+            }
+
+            @Override
+            public void onScrollStateChanged(FlipView flipView, int newState) {
+            }
+        });
+
+        // keep frame callbacks queued until the test runs them
+        ShadowLooper.pauseMainLooper();
+
+        downTime = SystemClock.uptimeMillis();
+        x = view.getWidth() / 2f;
+        y = view.getHeight() * 3 / 4f;
+
+        dispatch(MotionEvent.ACTION_DOWN);
+
+        // the first move past the touch slop starts the drag and scrolls right away
+        y -= 2 * MOVE_STEP;
+        dispatch(MotionEvent.ACTION_MOVE);
+        assertEquals(FlipView.SCROLL_STATE_DRAGGING, view.getScrollState());
+        assertEquals(1, scrolls.size());
+    }
+
+    @Test
+    public void movesWithinFrame_scrollOnceBySummedDelta() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            y -= MOVE_STEP;
+            dispatch(MotionEvent.ACTION_MOVE);
+        }
+
+        assertEquals(1, scrolls.size());
+
+        runFrames(1);
+
+        assertEquals(2, scrolls.size());
+        assertEquals(3 * MOVE_STEP / 2, (int) scrolls.get(1));
+    }
+
+    @Test
+    public void pendingMove_isFlushedBeforeUp() throws Exception {
+        y -= MOVE_STEP;
+        dispatch(MotionEvent.ACTION_MOVE);
+        assertEquals(1, scrolls.size());
+
+        dispatch(MotionEvent.ACTION_UP);
+
+        assertEquals(2, scrolls.size());
+        assertEquals(MOVE_STEP / 2, (int) scrolls.get(1));
+    }
+
+    private void dispatch(int action) {
+        MotionEvent event = MotionEvent.obtain(downTime, SystemClock.uptimeMillis(), action, x, y, 0);
+        view.dispatchTouchEvent(event);
+        event.recycle();
+    }
+
+    private static void runFrames(int frames) {
+        for (int i = 0; i < frames; i++) {
+            ShadowLooper.idleMainLooper(FRAME_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+}
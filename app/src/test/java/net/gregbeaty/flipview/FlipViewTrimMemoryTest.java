@@ -0,0 +1,179 @@
+package net.gregbeaty.flipview;
+
+import android.content.ComponentCallbacks2;
+import android.view.View;
+import android.view.ViewGroup;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class FlipViewTrimMemoryTest {
+    private FlipView view;
+    private TestPageAdapter adapter;
+
+    @Before
+    public void setUp() throws Exception {
+        view = new FlipView(RuntimeEnvironment.application);
+        adapter = new TestPageAdapter(10);
+
+        view.setPagePreparerExecutor(new DirectExecutorService());
+        view.setPagePreparer(new FlipView.PagePreparer<String>() {
+            @Override
+            public String preparePage(long itemId, int position) {
+                return "page " + itemId;
+            }
+        });
+        view.setAdapter(adapter);
+        view.scrollToPosition(5);
+        layout();
+
+        // the pass that jumps to a position lays out the neighbours too, the next one settles on the current page
+        view.getChildAt(0).requestLayout();
+        layout();
+
+        ViewGroup recyclerView = (ViewGroup) view.getChildAt(0);
+        view.getRecycledViewPool().putRecycledView(adapter.createViewHolder(recyclerView, 0));
+        view.getRecycledViewPool().putRecycledView(adapter.createViewHolder(recyclerView, 0));
+    }
+
+    @Test
+    public void trimMemory_runningModerate_releasesPoolAndTrimsPreparedPages() throws Exception {
+        View currentPage = getCurrentPage();
+
+        view.trimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE);
+
+        // the current page was prepared first, its neighbours are the most recently used
+        assertEquals(0, view.getRecycledViewPool().getRecycledViewCount(0));
+        assertNull(view.getPreparedPage(5));
+        assertEquals("page 4", view.getPreparedPage(4));
+        assertEquals("page 6", view.getPreparedPage(6));
+        assertSame(currentPage, getCurrentPage());
+    }
+
+    @Test
+    public void trimMemory_uiHidden_releasesPoolAndPreparedPages() throws Exception {
+        View currentPage = getCurrentPage();
+
+        view.trimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN);
+
+        assertEquals(0, view.getRecycledViewPool().getRecycledViewCount(0));
+        assertNull(view.getPreparedPage(4));
+        assertNull(view.getPreparedPage(6));
+        assertSame(currentPage, getCurrentPage());
+    }
+
+    @Test
+    public void trimMemory_runningCritical_keepsRunningFlip() throws Exception {
+        startFlip();
+        View currentPage = getCurrentPage();
+
+        view.trimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL);
+
+        assertEquals(FlipView.SCROLL_STATE_SETTLING, view.getScrollState());
+        assertEquals(6, view.getFlipTargetPosition());
+        assertEquals(3, getAttachedPageCount());
+        assertEquals(0, view.getRecycledViewPool().getRecycledViewCount(0));
+        assertNull(view.getPreparedPage(5));
+        assertSame(currentPage, getCurrentPage());
+    }
+
+    @Test
+    public void trimMemory_complete_finishesRunningFlipAndKeepsOnlyCurrentPage() throws Exception {
+        startFlip();
+
+        view.trimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+        layout();
+
+        assertEquals(FlipView.SCROLL_STATE_IDLE, view.getScrollState());
+        assertEquals(6, view.getPosition());
+        assertEquals(1, getAttachedPageCount());
+        assertNotNull(getCurrentPage());
+    }
+
+    @Test
+    public void trimMemory_complete_rebuildsOnNextLayout() throws Exception {
+        view.trimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+        assertNull(view.getPreparedPage(6));
+
+        view.getChildAt(0).requestLayout();
+        layout();
+
+        assertEquals(5, view.getPosition());
+        assertEquals("page 4", view.getPreparedPage(4));
+        assertEquals("page 6", view.getPreparedPage(6));
+    }
+
+    // a layout while the animator runs attaches both neighbours
+    private void startFlip() {
+        assertTrue(view.flipNext());
+        view.getChildAt(0).requestLayout();
+        layout();
+        assertEquals(3, getAttachedPageCount());
+    }
+
+    private int getAttachedPageCount() {
+        return ((ViewGroup) view.getChildAt(0)).getChildCount();
+    }
+
+    private View getCurrentPage() {
+        return ((FlipRecyclerView) view.getChildAt(0)).getLayoutManager().findViewByPosition(view.getPosition());
+    }
+
+    private void layout() {
+        TestLayouts.layout(view);
+        ShadowLooper.idleMainLooper();
+    }
+
+    private static class DirectExecutorService extends AbstractExecutorService {
+        private boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package net.gregbeaty.flipview;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class PageApproachPredictorTest {
+    private static final long MILLI = 1_000_000L;
+
+    private final List<long[]> approaches = new ArrayList<>();
+    private final PageApproachPredictor predictor = new PageApproachPredictor(new PageApproachPredictor.Listener() {
+        @Override
+        public void onPageApproach(int position, int direction, long estimatedMillis) {
+            approaches.add(new long[]{position, direction, estimatedMillis});
+        }
+    });
+
+    @Test
+    public void update_predictsNextPagesWhenFlippingForward() throws Exception {
+        predictor.update(900, 0, 1, PageApproachPredictor.NO_POSITION, 100);
+        approaches.clear();
+        predictor.update(990, 10 * MILLI, 1, PageApproachPredictor.NO_POSITION, 100);
+
+        assertEquals(2, approaches.size());
+        assertEquals(6, approaches.get(0)[0]);
+        assertEquals(1, approaches.get(0)[1]);
+        assertEquals(0, approaches.get(0)[2]);
+        assertEquals(7, approaches.get(1)[0]);
+        assertEquals(10, approaches.get(1)[2]);
+    }
+
+    @Test
+    public void update_predictsPreviousPagesWhenFlippingBackward() throws Exception {
+        predictor.update(900, 0, -1, PageApproachPredictor.NO_POSITION, 100);
+        approaches.clear();
+        predictor.update(810, 10 * MILLI, -1, PageApproachPredictor.NO_POSITION, 100);
+
+        assertEquals(2, approaches.size());
+        assertEquals(4, approaches.get(0)[0]);
+        assertEquals(-1, approaches.get(0)[1]);
+        assertEquals(0, approaches.get(0)[2]);
+        assertEquals(3, approaches.get(1)[0]);
+        assertEquals(10, approaches.get(1)[2]);
+    }
+
+    @Test
+    public void update_onlyDispatchesWhenPredictionChanges() throws Exception {
+        predictor.update(900, 0, 1, PageApproachPredictor.NO_POSITION, 100);
+        predictor.update(910, MILLI, 1, PageApproachPredictor.NO_POSITION, 100);
+        approaches.clear();
+        predictor.update(920, 2 * MILLI, 1, PageApproachPredictor.NO_POSITION, 100);
+
+        assertEquals(0, approaches.size());
+    }
+
+    @Test
+    public void update_stopsAtLastPage() throws Exception {
+        predictor.update(1700, 0, 1, PageApproachPredictor.NO_POSITION, 11);
+
+        assertEquals(1, approaches.size());
+        assertEquals(10, approaches.get(0)[0]);
+    }
+
+    @Test
+    public void update_includesDistantSmoothScrollTarget() throws Exception {
+        predictor.update(0, 0, 1, 50, 100);
+        approaches.clear();
+        predictor.update(180, 10 * MILLI, 1, 50, 100);
+
+        assertEquals(3, approaches.size());
+        assertEquals(2, approaches.get(0)[0]);
+        assertEquals(3, approaches.get(1)[0]);
+        assertEquals(50, approaches.get(2)[0]);
+        assertEquals((49 * 180 - 180) / 18, approaches.get(2)[2]);
+    }
+
+    @Test
+    public void estimate_isUnknownWhenMovingAway() throws Exception {
+        predictor.update(900, 0, 1, PageApproachPredictor.NO_POSITION, 100);
+        predictor.update(880, 10 * MILLI, 1, PageApproachPredictor.NO_POSITION, 100);
+
+        assertEquals(PageApproachPredictor.UNKNOWN_TIME, predictor.estimateMillisUntilVisible(7, 880, 1));
+    }
+}
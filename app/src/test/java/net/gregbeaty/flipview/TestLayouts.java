@@ -0,0 +1,17 @@
+package net.gregbeaty.flipview;
+
+import android.view.View;
+
+final class TestLayouts {
+    static final int WIDTH = 480;
+    static final int HEIGHT = 800;
+
+    private TestLayouts() {
+    }
+
+    static void layout(View view) {
+        view.measure(View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        view.layout(0, 0, WIDTH, HEIGHT);
+    }
+}
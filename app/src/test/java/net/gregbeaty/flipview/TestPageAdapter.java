@@ -0,0 +1,34 @@
+package net.gregbeaty.flipview;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+
+class TestPageAdapter extends FlipPageAdapter<RecyclerView.ViewHolder> {
+    TestPageAdapter(int itemCount) {
+        this(new FlipPageStore(), itemCount);
+    }
+
+    TestPageAdapter(FlipPageStore pages, int itemCount) {
+        super(pages);
+
+        for (int i = 0; i < itemCount; i++) {
+            addPage(i, i);
+        }
+    }
+
+    @NonNull
+    @Override
+    public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        View view = new View(parent.getContext());
+        view.setLayoutParams(new RecyclerView.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
+        return new RecyclerView.ViewHolder(view) {
+        };
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
+        holder.itemView.setBackgroundColor(0xff000000 | position * 0x010101);
+    }
+}
@@ -0,0 +1,79 @@
+package net.gregbeaty.flipview.sample;
+
+import java.util.Arrays;
+
+class FrameStats {
+    static final long FRAME_BUDGET_NANOS = 16_666_667L;
+    private static final int WINDOW_SIZE = 120;
+
+    private final long[] intervals = new long[WINDOW_SIZE];
+    private final long[] sorted = new long[WINDOW_SIZE];
+    private int intervalCount;
+    private int nextInterval;
+    private long lastFrameTimeNanos;
+    private boolean hasLastFrame;
+    private long totalFrames;
+    private long jankyFrames;
+
+    void onFrame(long frameTimeNanos) {
+        if (hasLastFrame) {
+            long interval = frameTimeNanos - lastFrameTimeNanos;
+            intervals[nextInterval] = interval;
+            nextInterval = (nextInterval + 1) % WINDOW_SIZE;
+            intervalCount = Math.min(intervalCount + 1, WINDOW_SIZE);
+
+            totalFrames++;
+            if (interval > FRAME_BUDGET_NANOS * 3 / 2) {
+                jankyFrames++;
+            }
+        }
+
+        lastFrameTimeNanos = frameTimeNanos;
+        hasLastFrame = true;
+    }
+
+    // frames stop while the view is idle, so callers pause the stats instead of counting the gap
+    void pause() {
+        hasLastFrame = false;
+    }
+
+    void reset() {
+        intervalCount = 0;
+        nextInterval = 0;
+        hasLastFrame = false;
+        totalFrames = 0;
+        jankyFrames = 0;
+    }
+
+    float getFps() {
+        if (intervalCount == 0) {
+            return 0;
+        }
+
+        long total = 0;
+        for (int i = 0; i < intervalCount; i++) {
+            total += intervals[i];
+        }
+
+        return intervalCount * 1_000_000_000f / total;
+    }
+
+    float getPercentileMillis(int percentile) {
+        if (intervalCount == 0) {
+            return 0;
+        }
+
+        System.arraycopy(intervals, 0, sorted, 0, intervalCount);
+        Arrays.sort(sorted, 0, intervalCount);
+        int index = Math.min(intervalCount - 1, (intervalCount * percentile) / 100);
+        return sorted[index] / 1_000_000f;
+    }
+
+    long getTotalFrames() {
+        return totalFrames;
+    }
+
+    long getJankyFrames() {
+        return jankyFrames;
+    }
+}
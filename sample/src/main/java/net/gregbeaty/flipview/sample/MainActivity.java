@@ -1,7 +1,9 @@
 package net.gregbeaty.flipview.sample;
 
 import androidx.appcompat.app.AppCompatActivity;
+import android.content.Intent;
 import android.os.Bundle;
+import android.view.KeyEvent;
 import android.view.Menu;
 import android.view.MenuInflater;
 import android.view.MenuItem;
@@ -44,21 +46,13 @@ public class MainActivity extends AppCompatActivity {
             @Override
             public void onPositionChange(FlipView flipView, int position) {
                 refreshDetails();
+                invalidateOptionsMenu();
             }
         });
 
-        view.addOnScrollListener(new FlipView.OnScrollListener() {
+        view.addOnFlipProgressListener(new FlipView.OnFlipProgressListener() {
             @Override
-            public void onScrolled(FlipView flipView, int dx, int dy) {
-                refreshDetails();
-            }
-
-            @Override
-            public void onScrollStateChanged(FlipView flipView, int newState) {
-                if (newState != FlipView.SCROLL_STATE_IDLE) {
-                    return;
-                }
-
+            public void onFlipProgress(FlipView flipView, int position, float fraction, int direction) {
                 refreshDetails();
             }
         });
@@ -69,10 +63,8 @@ public class MainActivity extends AppCompatActivity {
     private void refreshDetails() {
         position.setText(String.format("Position: %s", view.getPosition()));
         totalItems.setText(String.format("Total Item: %s", adapter.getItemCount()));
-        distanceText.setText(String.format("Distance: %s", view.getScrollDistance()));
+        distanceText.setText(String.format("Distance: %s", view.getScrollDistanceLong()));
         angleText.setText(String.format("Angle: %s", view.getAngle()));
-
-        invalidateOptionsMenu();
     }
 
     @Override
@@ -92,6 +84,22 @@ public class MainActivity extends AppCompatActivity {
         return true;
     }
 
+    @Override
+    public boolean onKeyDown(int keyCode, KeyEvent event) {
+        switch (keyCode) {
+            case KeyEvent.KEYCODE_PAGE_DOWN:
+            case KeyEvent.KEYCODE_DPAD_RIGHT:
+                view.flipNext();
+                return true;
+            case KeyEvent.KEYCODE_PAGE_UP:
+            case KeyEvent.KEYCODE_DPAD_LEFT:
+                view.flipPrevious();
+                return true;
+            default:
+                return super.onKeyDown(keyCode, event);
+        }
+    }
+
     @Override
     public boolean onOptionsItemSelected(MenuItem item) {
         switch (item.getItemId()) {
@@ -107,6 +115,9 @@ public class MainActivity extends AppCompatActivity {
             case R.id.scroll_to_end:
                 view.smoothScrollToPosition(adapter.getItemCount() - 1);
                 return true;
+            case R.id.stress_test:
+                startActivity(new Intent(this, StressActivity.class));
+                return true;
             default:
                 return super.onOptionsItemSelected(item);
         }
@@ -8,16 +8,15 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
 
-import java.util.ArrayList;
+import net.gregbeaty.flipview.FlipPageAdapter;
+
 import java.util.Locale;
 import java.util.Random;
 
 import timber.log.Timber;
 
-public class SampleAdapter extends RecyclerView.Adapter<SampleAdapter.ViewHolder> {
+public class SampleAdapter extends FlipPageAdapter<SampleAdapter.ViewHolder> {
     private final Random random = new Random();
-    private final ArrayList<Integer> colors;
-    private final ArrayList<Long> items;
     private long itemIdCount;
 
     public static class ViewHolder extends RecyclerView.ViewHolder {
@@ -30,12 +29,6 @@ public class SampleAdapter extends RecyclerView.Adapter<SampleAdapter.ViewHolder
         }
     }
 
-    public SampleAdapter() {
-        colors = new ArrayList<>();
-        items = new ArrayList<>();
-        setHasStableIds(true);
-    }
-
     @Override
     public SampleAdapter.ViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
         return new ViewHolder(LayoutInflater.from(parent.getContext()).inflate(R.layout.item_list_item, parent, false));
@@ -45,8 +38,8 @@ public class SampleAdapter extends RecyclerView.Adapter<SampleAdapter.ViewHolder
     public void onBindViewHolder(SampleAdapter.ViewHolder holder, int position) {
         Timber.d("onBindViewHolder: %d", position);
 
-        holder.text.setText(String.format(Locale.getDefault(), "%d", items.get(position)));
-        holder.itemView.setBackgroundColor(colors.get(position));
+        holder.text.setText(String.format(Locale.getDefault(), "%d", getPageId(position)));
+        holder.itemView.setBackgroundColor(getPageValue(position));
     }
 
     @Override
@@ -56,25 +49,11 @@ public class SampleAdapter extends RecyclerView.Adapter<SampleAdapter.ViewHolder
         holder.text.setText("Unbound");
     }
 
-    @Override
-    public int getItemCount() {
-        return items.size();
-    }
-
-    @Override
-    public long getItemId(int position) {
-        return items.get(position);
-    }
-
     public void addItem() {
-        items.add(++itemIdCount);
-        colors.add(Color.argb(255, random.nextInt(256), random.nextInt(256), random.nextInt(256)));
-        notifyItemInserted(items.size() - 1);
+        addPage(++itemIdCount, Color.argb(255, random.nextInt(256), random.nextInt(256), random.nextInt(256)));
     }
 
     public void removeItem(int position) {
-        items.remove(position);
-        colors.remove(position);
-        notifyItemRemoved(position);
+        removePage(position);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,221 @@
+package net.gregbeaty.flipview.sample;
+
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.recyclerview.widget.RecyclerView;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Handler;
+import android.view.Choreographer;
+import android.view.Menu;
+import android.view.MenuItem;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import net.gregbeaty.flipview.FlipRecyclerStats;
+import net.gregbeaty.flipview.FlipView;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+
+import timber.log.Timber;
+
+public class StressActivity extends AppCompatActivity implements Choreographer.FrameCallback, StressRunner.Driver {
+    static final int PAGE_COUNT = 100_000;
+    private static final long OVERLAY_INTERVAL_MILLIS = 500;
+
+    private final Handler handler = new Handler();
+    private final FrameStats frameStats = new FrameStats();
+    private final FrameStats runStats = new FrameStats();
+    private FlipView view;
+    private TextView overlay;
+    private StressAdapter adapter;
+    private StressRunner runner;
+    private long lastOverlayBindCount;
+    private boolean frameCallbackPosted;
+
+    private final Runnable overlayUpdater = new Runnable() {
+        @Override
+        public void run() {
+            refreshOverlay();
+            handler.postDelayed(this, OVERLAY_INTERVAL_MILLIS);
+        }
+    };
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+
+        setContentView(R.layout.activity_stress);
+
+        overlay = findViewById(R.id.stress_overlay);
+        view = findViewById(R.id.stress_flip_view);
+        adapter = new StressAdapter(PAGE_COUNT);
+
+        view.addOnScrollListener(new FlipView.OnScrollListener() {
+            @Override
+            public void onScrolled(FlipView flipView, int dx, int dy) {
+                postFrameCallback();
+            }
+
+            @Override
+            public void onScrollStateChanged(FlipView flipView, int newState) {
+                if (newState != FlipView.SCROLL_STATE_IDLE) {
+                    postFrameCallback();
+                    return;
+                }
+
+                frameStats.pause();
+                runStats.pause();
+
+                if (runner != null) {
+                    runner.onIdle(System.nanoTime());
+                }
+            }
+        });
+
+        view.setStrictScrapChecks(BuildConfig.DEBUG);
+        view.warmUp(0, 3);
+        view.setPagePreparer(adapter);
+        view.setAdapter(adapter);
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+
+        handler.post(overlayUpdater);
+    }
+
+    @Override
+    protected void onPause() {
+        handler.removeCallbacks(overlayUpdater);
+        Choreographer.getInstance().removeFrameCallback(this);
+        frameCallbackPosted = false;
+
+        super.onPause();
+    }
+
+    StressAdapter getAdapter() {
+        return adapter;
+    }
+
+    private void postFrameCallback() {
+        if (frameCallbackPosted) {
+            return;
+        }
+
+        frameCallbackPosted = true;
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        frameCallbackPosted = false;
+        frameStats.onFrame(frameTimeNanos);
+
+        if (runner != null && runner.isRunning()) {
+            runStats.onFrame(frameTimeNanos);
+        }
+
+        if (view.getScrollState() != FlipView.SCROLL_STATE_IDLE) {
+            postFrameCallback();
+        }
+    }
+
+    private void refreshOverlay() {
+        long bindCount = adapter.getBindCount();
+        float bindsPerSecond = (bindCount - lastOverlayBindCount) * 1000f / OVERLAY_INTERVAL_MILLIS;
+        lastOverlayBindCount = bindCount;
+
+        RecyclerView.RecycledViewPool pool = view.getRecycledViewPool();
+        FlipRecyclerStats stats = view.getRecyclerStats();
+        String runState = runner != null && runner.isRunning()
+                ? String.format(Locale.US, "\nscript: %d/%d", runner.getStep() + 1, runner.getStepCount())
+                : "";
+
+        overlay.setText(String.format(Locale.US, "fps: %.1f  p90: %.1fms  janky: %d\nbinds/s: %.0f  creates: %d  pool: %d\npool hits: %d  recycles: %d  scrap leaks: %d\npage: %d%s",
+                frameStats.getFps(), frameStats.getPercentileMillis(90), frameStats.getJankyFrames(),
+                bindsPerSecond, stats.getCreates(), pool.getRecycledViewCount(0),
+                stats.getPoolHits(), stats.getRecycles(), stats.getScrapLeaks(),
+                view.getPosition(), runState));
+    }
+
+    @Override
+    public boolean onCreateOptionsMenu(Menu menu) {
+        getMenuInflater().inflate(R.menu.menu_stress, menu);
+        return true;
+    }
+
+    @Override
+    public boolean onOptionsItemSelected(MenuItem item) {
+        switch (item.getItemId()) {
+            case R.id.run_script:
+                runScript();
+                return true;
+            case R.id.battery_saver:
+                item.setChecked(!item.isChecked());
+                view.setPowerPolicy(item.isChecked() ? FlipView.POWER_POLICY_SAVER : FlipView.POWER_POLICY_AUTO);
+                return true;
+            default:
+                return super.onOptionsItemSelected(item);
+        }
+    }
+
+    void runScript() {
+        if (runner != null && runner.isRunning()) {
+            return;
+        }
+
+        runStats.reset();
+        runner = new StressRunner(StressRunner.createScript(PAGE_COUNT, view.getPosition(), 42), this);
+        runner.start(System.nanoTime());
+    }
+
+    @Override
+    public void flipTo(int position) {
+        if (position == view.getPosition()) {
+            handler.post(new Runnable() {
+                @Override
+                public void run() {
+                    if (runner != null) {
+                        runner.onIdle(System.nanoTime());
+                    }
+                }
+            });
+            return;
+        }
+
+        view.smoothScrollToPosition(position);
+    }
+
+    @Override
+    public void onFinished(StressRunner runner) {
+        try {
+            File file = writeReport(runner);
+            Toast.makeText(this, file.getAbsolutePath(), Toast.LENGTH_LONG).show();
+        } catch (IOException e) {
+            Timber.e(e, "Unable to write stress results");
+        }
+    }
+
+    File writeReport(StressRunner runner) throws IOException {
+        StressReport report = new StressReport()
+                .add("device", Build.MANUFACTURER + " " + Build.MODEL)
+                .add("sdk", Build.VERSION.SDK_INT)
+                .add("pages", PAGE_COUNT)
+                .add("steps", runner.getStepCount())
+                .add("duration_ms", runner.getDurationNanos() / 1_000_000)
+                .add("binds", adapter.getBindCount())
+                .add("placeholder_binds", adapter.getPlaceholderBindCount())
+                .add("creates", adapter.getCreateCount())
+                .add("prepared_binds", adapter.getPreparedBindCount())
+                .add("recycler", view.getRecyclerStats())
+                .add("low_power", view.isLowPower())
+                .addFrameStats(runStats);
+
+        Timber.d("Stress results:\n%s", report);
+
+        return report.write(new File(getFilesDir(), "stress"), "stress-" + System.currentTimeMillis() + ".txt");
+    }
+}
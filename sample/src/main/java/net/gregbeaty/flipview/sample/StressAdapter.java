@@ -0,0 +1,158 @@
+package net.gregbeaty.flipview.sample;
+
+import android.graphics.Color;
+import android.graphics.drawable.ColorDrawable;
+import android.graphics.drawable.GradientDrawable;
+import androidx.core.text.PrecomputedTextCompat;
+import androidx.core.widget.TextViewCompat;
+import androidx.recyclerview.widget.RecyclerView;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.ImageView;
+import android.widget.TextView;
+
+import net.gregbeaty.flipview.FlipPageAdapter;
+import net.gregbeaty.flipview.FlipView;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class StressAdapter extends FlipPageAdapter<StressAdapter.ViewHolder> implements FlipView.PagePreparer<CharSequence> {
+    private static final String[] WORDS = {"flip", "page", "render", "layout", "measure", "bind", "frame", "shadow", "camera", "pool"};
+
+    private long bindCount;
+    private long placeholderBindCount;
+    private final AtomicLong createCount = new AtomicLong();
+    private long preparedBindCount;
+    private volatile PrecomputedTextCompat.Params bodyParams;
+
+    public static class ViewHolder extends RecyclerView.ViewHolder {
+        private final TextView title;
+        private final TextView body;
+        private final TextView footer;
+        private final ImageView[] images;
+
+        public ViewHolder(View itemView) {
+            super(itemView);
+
+            title = itemView.findViewById(R.id.stress_page_title);
+            body = itemView.findViewById(R.id.stress_page_body);
+            footer = itemView.findViewById(R.id.stress_page_footer);
+            images = new ImageView[]{
+                    itemView.findViewById(R.id.stress_page_image_1),
+                    itemView.findViewById(R.id.stress_page_image_2),
+                    itemView.findViewById(R.id.stress_page_image_3)
+            };
+        }
+    }
+
+    public StressAdapter(int itemCount) {
+        long[] ids = new long[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            ids[i] = i;
+        }
+
+        addPages(ids, null);
+    }
+
+    public long getBindCount() {
+        return bindCount;
+    }
+
+    public long getPlaceholderBindCount() {
+        return placeholderBindCount;
+    }
+
+    public long getCreateCount() {
+        return createCount.get();
+    }
+
+    public long getPreparedBindCount() {
+        return preparedBindCount;
+    }
+
+    @Override
+    public CharSequence preparePage(long itemId, int position) {
+        String body = createBody(position);
+
+        PrecomputedTextCompat.Params params = bodyParams;
+        return params != null ? PrecomputedTextCompat.create(body, params) : body;
+    }
+
+    @Override
+    public ViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
+        createCount.incrementAndGet();
+
+        ViewHolder holder = new ViewHolder(LayoutInflater.from(parent.getContext()).inflate(R.layout.item_stress_page, parent, false));
+        if (bodyParams == null) {
+            bodyParams = TextViewCompat.getTextMetricsParams(holder.body);
+        }
+
+        return holder;
+    }
+
+    @Override
+    public void onBindViewHolder(ViewHolder holder, int position) {
+        bindCount++;
+
+        if (getBindMode() == FlipView.BIND_MODE_PLACEHOLDER) {
+            placeholderBindCount++;
+            bindPlaceholder(holder, position);
+            return;
+        }
+
+        holder.title.setText(String.format(Locale.getDefault(), "Page %d", position));
+        bindBody(holder, position);
+        holder.footer.setText(String.format(Locale.getDefault(), "%d of %d", position + 1, getItemCount()));
+        holder.itemView.setBackgroundColor(colorFor(position, 0));
+
+        // allocate fresh drawables on every bind to approximate decoded images
+        for (int i = 0; i < holder.images.length; i++) {
+            GradientDrawable drawable = new GradientDrawable(GradientDrawable.Orientation.TL_BR,
+                    new int[]{colorFor(position, i + 1), colorFor(position, i + 4), colorFor(position, i + 7)});
+            drawable.setCornerRadius(12 * (i + 1));
+            holder.images[i].setImageDrawable(drawable);
+        }
+    }
+
+    private void bindBody(ViewHolder holder, int position) {
+        CharSequence prepared = getPreparedPage(position);
+        if (prepared == null) {
+            holder.body.setText(createBody(position));
+            return;
+        }
+
+        preparedBindCount++;
+        if (prepared instanceof PrecomputedTextCompat) {
+            TextViewCompat.setPrecomputedText(holder.body, (PrecomputedTextCompat) prepared);
+        } else {
+            holder.body.setText(prepared);
+        }
+    }
+
+    private void bindPlaceholder(ViewHolder holder, int position) {
+        holder.title.setText(String.format(Locale.getDefault(), "Page %d", position));
+        holder.body.setText(null);
+        holder.footer.setText(null);
+        holder.itemView.setBackgroundColor(colorFor(position, 0));
+
+        for (int i = 0; i < holder.images.length; i++) {
+            holder.images[i].setImageDrawable(new ColorDrawable(colorFor(position, i + 1)));
+        }
+    }
+
+    private static String createBody(int position) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 120; i++) {
+            builder.append(WORDS[(position + i * 7) % WORDS.length]).append(' ');
+        }
+
+        return builder.toString();
+    }
+
+    private static int colorFor(int position, int salt) {
+        int hash = (position + 1) * 31 + salt * 17;
+        return Color.rgb((hash * 73) & 0xff, (hash * 151) & 0xff, (hash * 199) & 0xff);
+    }
+}
@@ -0,0 +1,47 @@
+package net.gregbeaty.flipview.sample;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+class StressReport {
+    private final StringBuilder builder = new StringBuilder();
+
+    StressReport add(String key, Object value) {
+        builder.append(key).append('=').append(value).append('\n');
+        return this;
+    }
+
+    StressReport addFrameStats(FrameStats stats) {
+        add("frames", stats.getTotalFrames());
+        add("janky_frames", stats.getJankyFrames());
+        add("fps", String.format(Locale.US, "%.1f", stats.getFps()));
+        add("frame_p50_ms", String.format(Locale.US, "%.2f", stats.getPercentileMillis(50)));
+        add("frame_p90_ms", String.format(Locale.US, "%.2f", stats.getPercentileMillis(90)));
+        add("frame_p99_ms", String.format(Locale.US, "%.2f", stats.getPercentileMillis(99)));
+        return this;
+    }
+
+    File write(File directory, String name) throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Unable to create " + directory);
+        }
+
+        File file = new File(directory, name);
+        Writer writer = new FileWriter(file);
+        try {
+            writer.write(builder.toString());
+        } finally {
+            writer.close();
+        }
+
+        return file;
+    }
+
+    @Override
+    public String toString() {
+        return builder.toString();
+    }
+}
@@ -0,0 +1,82 @@
+package net.gregbeaty.flipview.sample;
+
+import java.util.Random;
+
+class StressRunner {
+    private final int[] targets;
+    private final Driver driver;
+    private int step = -1;
+    private long startTimeNanos;
+    private long endTimeNanos;
+
+    StressRunner(int[] targets, Driver driver) {
+        this.targets = targets;
+        this.driver = driver;
+    }
+
+    static int[] createScript(int itemCount, int startPosition, long seed) {
+        final Random random = new Random(seed);
+        final int[] targets = new int[100];
+        int position = startPosition;
+
+        for (int i = 0; i < targets.length; i++) {
+            if (i < 40) {
+                position++;
+            } else if (i < 70) {
+                position--;
+            } else if (i < 95) {
+                position += random.nextInt(7) - 3;
+            } else {
+                position += random.nextInt(201) - 100;
+            }
+
+            position = Math.max(0, Math.min(itemCount - 1, position));
+            targets[i] = position;
+        }
+
+        return targets;
+    }
+
+    boolean isRunning() {
+        return step >= 0 && step < targets.length;
+    }
+
+    int getStep() {
+        return step;
+    }
+
+    int getStepCount() {
+        return targets.length;
+    }
+
+    long getDurationNanos() {
+        return endTimeNanos - startTimeNanos;
+    }
+
+    void start(long nowNanos) {
+        step = 0;
+        startTimeNanos = nowNanos;
+        driver.flipTo(targets[step]);
+    }
+
+    void onIdle(long nowNanos) {
+        if (!isRunning()) {
+            return;
+        }
+
+        step++;
+        if (step < targets.length) {
+            driver.flipTo(targets[step]);
+            return;
+        }
+
+        endTimeNanos = nowNanos;
+        driver.onFinished(this);
+    }
+
+    interface Driver {
+        void flipTo(int position);
+
+        void onFinished(StressRunner runner);
+    }
+}
@@ -0,0 +1,43 @@
+package net.gregbeaty.flipview.sample;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class FrameStatsTest {
+    @Test
+    public void getFps_averagesFrameIntervals() throws Exception {
+        FrameStats stats = new FrameStats();
+        for (int i = 0; i <= 60; i++) {
+            stats.onFrame(i * FrameStats.FRAME_BUDGET_NANOS);
+        }
+
+        assertEquals(60f, stats.getFps(), 0.1f);
+        assertEquals(60, stats.getTotalFrames());
+        assertEquals(0, stats.getJankyFrames());
+    }
+
+    @Test
+    public void onFrame_countsJankyFrames() throws Exception {
+        FrameStats stats = new FrameStats();
+        stats.onFrame(0);
+        stats.onFrame(FrameStats.FRAME_BUDGET_NANOS);
+        stats.onFrame(FrameStats.FRAME_BUDGET_NANOS * 4);
+
+        assertEquals(2, stats.getTotalFrames());
+        assertEquals(1, stats.getJankyFrames());
+        assertEquals(50f, stats.getPercentileMillis(90), 0.1f);
+    }
+
+    @Test
+    public void pause_ignoresIdleGap() throws Exception {
+        FrameStats stats = new FrameStats();
+        stats.onFrame(0);
+        stats.onFrame(FrameStats.FRAME_BUDGET_NANOS);
+        stats.pause();
+        stats.onFrame(FrameStats.FRAME_BUDGET_NANOS * 100);
+
+        assertEquals(1, stats.getTotalFrames());
+        assertEquals(0, stats.getJankyFrames());
+    }
+}
@@ -0,0 +1,36 @@
+package net.gregbeaty.flipview.sample;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class StressActivityTest {
+    @Test
+    public void onCreate_loadsAllPages() throws Exception {
+        StressActivity activity = Robolectric.buildActivity(StressActivity.class).setup().get();
+
+        assertEquals(StressActivity.PAGE_COUNT, activity.getAdapter().getItemCount());
+    }
+
+    @Test
+    public void runScript_writesResultsFile() throws Exception {
+        StressActivity activity = Robolectric.buildActivity(StressActivity.class).setup().get();
+        StressRunner runner = new StressRunner(new int[]{0}, activity);
+
+        runner.start(0);
+        runner.onIdle(1_000_000);
+
+        File file = activity.writeReport(runner);
+        assertTrue(file.exists());
+        assertTrue(file.length() > 0);
+    }
+}
@@ -0,0 +1,63 @@
+package net.gregbeaty.flipview.sample;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class StressRunnerTest {
+    @Test
+    public void createScript_staysWithinAdapter() throws Exception {
+        int[] script = StressRunner.createScript(10, 0, 42);
+
+        for (int target : script) {
+            assertTrue(target >= 0 && target < 10);
+        }
+    }
+
+    @Test
+    public void createScript_isDeterministic() throws Exception {
+        int[] first = StressRunner.createScript(StressActivity.PAGE_COUNT, 500, 42);
+        int[] second = StressRunner.createScript(StressActivity.PAGE_COUNT, 500, 42);
+
+        for (int i = 0; i < first.length; i++) {
+            assertEquals(first[i], second[i]);
+        }
+    }
+
+    @Test
+    public void runner_advancesOnIdleAndFinishes() throws Exception {
+        final List<Integer> flips = new ArrayList<>();
+        final StressRunner[] finished = new StressRunner[1];
+        int[] script = {1, 2, 3};
+
+        StressRunner runner = new StressRunner(script, new StressRunner.Driver() {
+            @Override
+            public void flipTo(int position) {
+                flips.add(position);
+            }
+
+            @Override
+            public void onFinished(StressRunner runner) {
+                finished[0] = runner;
+            }
+        });
+
+        runner.start(0);
+        runner.onIdle(10);
+        runner.onIdle(20);
+        assertTrue(runner.isRunning());
+
+        runner.onIdle(30);
+        assertFalse(runner.isRunning());
+        assertSame(runner, finished[0]);
+        assertEquals(30, runner.getDurationNanos());
+        assertEquals(3, flips.size());
+        assertEquals(3, (int) flips.get(2));
+    }
+}